@@ -0,0 +1,123 @@
+package ru.stupidstick.graph.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import ru.stupidstick.graph.ConcurrentListGraph;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.ListGraph;
+import ru.stupidstick.graph.Vertex;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Contention benchmark: many threads writing into one shared graph. "locked" is a ListGraph behind a single
+// global lock, the way ingest used to run; "concurrent" is ConcurrentListGraph. Compare the score of the
+// same benchmark across the thread counts to see how each one scales.
+@State(Scope.Benchmark)
+public class ConcurrentGraphBenchmark {
+
+    private static final String LOCKED = "locked";
+
+    private static final String CONCURRENT = "concurrent";
+
+    @Param({"100000"})
+    public int vertexCount;
+
+    @Param({LOCKED, CONCURRENT})
+    public String implementation;
+
+    private final Object lock = new Object();
+
+    private final AtomicLong seeds = new AtomicLong(GraphFixture.SEED);
+
+    private Graph<String, String, Integer> graph;
+
+    private List<Vertex<String, String>> vertices;
+
+    // A fresh graph per iteration, so the edges written by earlier iterations do not pile up
+    @Setup(Level.Iteration)
+    public void setUp() {
+        graph = switch (implementation) {
+            case LOCKED -> new ListGraph<>(true, vertexCount);
+            case CONCURRENT -> new ConcurrentListGraph<>(true, vertexCount);
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+        vertices = GraphFixture.populate(graph, vertexCount, GraphFixture.degree(GraphFixture.SPARSE));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Edge<String, String, Integer> insertEdge1(Picker picker) {
+        return insertEdge(picker);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Edge<String, String, Integer> insertEdge4(Picker picker) {
+        return insertEdge(picker);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Edge<String, String, Integer> insertEdgeMax(Picker picker) {
+        return insertEdge(picker);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public Edge<String, String, Integer> writer(Picker picker) {
+        return insertEdge(picker);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(6)
+    public Optional<Edge<String, String, Integer>> reader(Picker picker) {
+        Vertex<String, String> from = picker.vertex(vertices);
+        Vertex<String, String> to = picker.vertex(vertices);
+        if (implementation.equals(LOCKED)) {
+            synchronized (lock) {
+                return graph.getEdge(from, to);
+            }
+        }
+        return graph.getEdge(from, to);
+    }
+
+    private Edge<String, String, Integer> insertEdge(Picker picker) {
+        Vertex<String, String> from = picker.vertex(vertices);
+        Vertex<String, String> to = picker.vertex(vertices);
+        if (implementation.equals(LOCKED)) {
+            synchronized (lock) {
+                return graph.insertEdge(from, to);
+            }
+        }
+        return graph.insertEdge(from, to);
+    }
+
+    // Per-thread source of random vertices for readers and writers, seeded differently for every thread
+    @State(Scope.Thread)
+    public static class Picker {
+
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp(ConcurrentGraphBenchmark benchmark) {
+            random = new SplittableRandom(benchmark.seeds.incrementAndGet());
+        }
+
+        Vertex<String, String> vertex(List<Vertex<String, String>> vertices) {
+            return vertices.get(random.nextInt(vertices.size()));
+        }
+    }
+}
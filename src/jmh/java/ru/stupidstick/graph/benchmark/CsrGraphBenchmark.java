@@ -0,0 +1,66 @@
+package ru.stupidstick.graph.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.ListGraph;
+
+import java.util.Optional;
+
+// Read-only operations on a frozen ListGraph; mutations are not supported by CsrGraph
+@State(Scope.Thread)
+public class CsrGraphBenchmark extends GraphBenchmarkSupport {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int vertexCount;
+
+    @Param({GraphFixture.SPARSE, GraphFixture.DENSE})
+    public String density;
+
+    private CsrGraph<String, String, Integer> csr;
+
+    @Override
+    protected Graph<String, String, Integer> newGraph() {
+        return new ListGraph<>(true);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        build(vertexCount, density);
+        csr = graph.freeze();
+        graph = csr;
+    }
+
+    @Benchmark
+    public Optional<Edge<String, String, Integer>> getEdge() {
+        return graph.getEdge(probeFrom(), probeTo());
+    }
+
+    @Benchmark
+    public void edgeIterator(Blackhole blackhole) {
+        scanAllEdges(blackhole);
+    }
+
+    @Benchmark
+    public void edgeIteratorOfVertex(Blackhole blackhole) {
+        scanEdgesOf(nextVertex(), blackhole);
+    }
+
+    @Benchmark
+    public double weightScan() {
+        double sum = 0;
+        for (int v = 0; v < csr.vertexCount(); v++) {
+            for (int k = csr.firstEdge(v); k < csr.endEdge(v); k++) {
+                sum += csr.weight(k) * csr.target(k);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,209 @@
+package ru.stupidstick.graph.benchmark;
+
+import org.openjdk.jmh.infra.Blackhole;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+// Shared state and operations of the per-implementation benchmarks. Subclasses declare the @Param fields
+// and the @Benchmark methods, so that each representation can run on the sizes it is able to hold.
+abstract class GraphBenchmarkSupport {
+
+    private static final int PROBE_COUNT = 1 << 12;
+
+    // Mutations are timed this many at a time, so the per-invocation setup and teardown that undo them
+    // are spread over the batch instead of dwarfing a single sub-microsecond operation
+    static final int BATCH = 256;
+
+    // Pairs drawn once per trial; every invocation takes the next BATCH of them
+    private static final int MAX_WINDOWS = 16;
+
+    protected Graph<String, String, Integer> graph;
+
+    protected List<Vertex<String, String>> vertices;
+
+    private int[] probes;
+
+    private int probe;
+
+    private int vertexCursor;
+
+    private final SplittableRandom random = new SplittableRandom(GraphFixture.SEED + 2);
+
+    // Ordered pairs with no edge between them
+    private int[] freePairs;
+
+    // Edges that are the only one between their endpoints, so deleting and re-inserting one restores it exactly
+    private List<Edge<String, String, Integer>> singleEdges;
+
+    private int poolSize;
+
+    private int poolCursor;
+
+    protected abstract Graph<String, String, Integer> newGraph();
+
+    protected void build(int vertexCount, String density) {
+        graph = newGraph();
+        vertices = GraphFixture.populate(graph, vertexCount, GraphFixture.degree(density));
+        probes = GraphFixture.probes(graph, vertices, PROBE_COUNT);
+        // at most a quarter of the edges, so small sparse graphs still have enough distinct single edges
+        long edgeCount = (long) vertexCount * Math.min(GraphFixture.degree(density), vertexCount - 1);
+        poolSize = (int) Math.max(1, Math.min(MAX_WINDOWS, edgeCount / (4L * BATCH))) * BATCH;
+        drawPairs();
+    }
+
+    // Pairs are distinct within each pool, so a batch never inserts or deletes the same pair twice
+    private void drawPairs() {
+        SplittableRandom pairRandom = new SplittableRandom(GraphFixture.SEED + 3);
+        int vertexCount = vertices.size();
+        Set<Long> taken = new HashSet<>();
+        freePairs = new int[2 * poolSize];
+        for (int p = 0; p < poolSize; ) {
+            int from = pairRandom.nextInt(vertexCount);
+            int to = GraphFixture.randomOther(pairRandom, vertexCount, from);
+            if (graph.getEdge(vertices.get(from), vertices.get(to)).isEmpty() && taken.add(pair(from, to))) {
+                freePairs[2 * p] = from;
+                freePairs[2 * p + 1] = to;
+                p++;
+            }
+        }
+
+        taken.clear();
+        singleEdges = new ArrayList<>(poolSize);
+        Map<Vertex<String, String>, Integer> multiplicity = new HashMap<>();
+        List<Edge<String, String, Integer>> row = new ArrayList<>();
+        while (singleEdges.size() < poolSize) {
+            int from = pairRandom.nextInt(vertexCount);
+            multiplicity.clear();
+            row.clear();
+            graph.forEachEdge(vertices.get(from), edge -> {
+                if (edge.getFrom() == vertices.get(from)) {
+                    row.add(edge);
+                    multiplicity.merge(edge.getTo(), 1, Integer::sum);
+                }
+            });
+            if (row.isEmpty()) {
+                continue;
+            }
+            Edge<String, String, Integer> edge = row.get(pairRandom.nextInt(row.size()));
+            int to = Integer.parseInt(edge.getTo().getName());
+            if (multiplicity.get(edge.getTo()) == 1 && taken.add(pair(from, to))) {
+                singleEdges.add(edge);
+            }
+        }
+    }
+
+    private static long pair(int from, int to) {
+        return (long) from << 32 | to;
+    }
+
+    // Start of the pool window for the next invocation
+    private int nextWindow() {
+        int start = poolCursor;
+        poolCursor = (poolCursor + BATCH) % poolSize;
+        return start;
+    }
+
+    protected Vertex<String, String> probeFrom() {
+        return vertices.get(probes[2 * probe]);
+    }
+
+    protected Vertex<String, String> probeTo() {
+        Vertex<String, String> to = vertices.get(probes[2 * probe + 1]);
+        probe = (probe + 1) & (PROBE_COUNT - 1);
+        return to;
+    }
+
+    protected Vertex<String, String> nextVertex() {
+        Vertex<String, String> vertex = vertices.get(vertexCursor);
+        vertexCursor = vertexCursor + 1 == vertices.size() ? 0 : vertexCursor + 1;
+        return vertex;
+    }
+
+    protected Vertex<String, String> randomVertex() {
+        return vertices.get(random.nextInt(vertices.size()));
+    }
+
+    protected void scanAllEdges(Blackhole blackhole) {
+        var iterator = graph.edgeIterator();
+        while (iterator.hasSet()) {
+            blackhole.consume(iterator.get());
+            iterator.next();
+        }
+    }
+
+    protected void scanEdgesOf(Vertex<String, String> vertex, Blackhole blackhole) {
+        var iterator = graph.edgeIterator(vertex);
+        while (iterator.hasSet()) {
+            blackhole.consume(iterator.get());
+            iterator.next();
+        }
+    }
+
+    // What one invocation changes, and how to undo it. The benchmark method does the timed half; the
+    // Level.Invocation setup or teardown of the state class does the other, once per BATCH operations.
+    static class Scratch {
+
+        final List<Vertex<String, String>> vertices = new ArrayList<>(BATCH);
+
+        final List<Vertex<String, String>> from = new ArrayList<>(BATCH);
+
+        final List<Vertex<String, String>> to = new ArrayList<>(BATCH);
+
+        final List<Edge<String, String, Integer>> edges = new ArrayList<>(BATCH);
+
+        // BATCH vertices, each with `degree` outgoing and incoming edges, for removeVertex to take away again
+        void attach(GraphBenchmarkSupport benchmark, int degree) {
+            vertices.clear();
+            for (int k = 0; k < BATCH; k++) {
+                Vertex<String, String> vertex = benchmark.graph.insertVertex("scratch", "scratch");
+                for (int i = 0; i < degree; i++) {
+                    benchmark.graph.insertEdge(vertex, benchmark.randomVertex());
+                    benchmark.graph.insertEdge(benchmark.randomVertex(), vertex);
+                }
+                vertices.add(vertex);
+            }
+        }
+
+        void detach(GraphBenchmarkSupport benchmark) {
+            vertices.forEach(benchmark.graph::removeVertex);
+            vertices.clear();
+        }
+
+        void pickFreePairs(GraphBenchmarkSupport benchmark) {
+            from.clear();
+            to.clear();
+            int start = benchmark.nextWindow();
+            for (int p = start; p < start + BATCH; p++) {
+                from.add(benchmark.vertices.get(benchmark.freePairs[2 * p]));
+                to.add(benchmark.vertices.get(benchmark.freePairs[2 * p + 1]));
+            }
+        }
+
+        // The pairs were free, so the edges inserted on them are the only ones there
+        void deleteInserted(GraphBenchmarkSupport benchmark) {
+            for (int i = 0; i < from.size(); i++) {
+                benchmark.graph.deleteEdge(from.get(i), to.get(i));
+            }
+        }
+
+        void pickSingleEdges(GraphBenchmarkSupport benchmark) {
+            edges.clear();
+            int start = benchmark.nextWindow();
+            edges.addAll(benchmark.singleEdges.subList(start, start + BATCH));
+        }
+
+        // The deleted Edge objects go back with their weights
+        void reinsertDeleted(GraphBenchmarkSupport benchmark) {
+            benchmark.graph.insertEdges(edges);
+        }
+    }
+}
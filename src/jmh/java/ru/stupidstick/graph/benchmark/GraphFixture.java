@@ -0,0 +1,76 @@
+package ru.stupidstick.graph.benchmark;
+
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+final class GraphFixture {
+
+    static final long SEED = 42;
+
+    static final String SPARSE = "sparse";
+
+    static final String DENSE = "dense";
+
+    private GraphFixture() {
+    }
+
+    static int degree(String density) {
+        return switch (density) {
+            case SPARSE -> 4;
+            case DENSE -> 32;
+            default -> throw new IllegalArgumentException("Unknown density: " + density);
+        };
+    }
+
+    // Fills the graph with vertexCount vertices, each having `degree` outgoing edges to random targets
+    static List<Vertex<String, String>> populate(Graph<String, String, Integer> graph, int vertexCount, int degree) {
+        int edgesPerVertex = Math.min(degree, vertexCount - 1);
+        graph.ensureCapacity(vertexCount, (long) vertexCount * edgesPerVertex);
+        List<Vertex<String, String>> vertices = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(new Vertex<>(String.valueOf(i), String.valueOf(i)));
+        }
+        graph.insertVertices(vertices);
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Edge<String, String, Integer>> edges = new ArrayList<>(edgesPerVertex);
+        for (int i = 0; i < vertexCount; i++) {
+            edges.clear();
+            for (int k = 0; k < edgesPerVertex; k++) {
+                int j = randomOther(random, vertexCount, i);
+                edges.add(new Edge<>(vertices.get(i), vertices.get(j), random.nextInt(1000)));
+            }
+            graph.insertEdges(edges);
+        }
+        return vertices;
+    }
+
+    // Pairs of vertex indices to probe: even slots hold existing edges, odd slots hold random pairs
+    static int[] probes(Graph<String, String, Integer> graph, List<Vertex<String, String>> vertices, int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        int[] probes = new int[count * 2];
+        for (int p = 0; p < count; p++) {
+            int from = random.nextInt(vertices.size());
+            int to = randomOther(random, vertices.size(), from);
+            if (p % 2 == 0) {
+                var edges = graph.edgeIterator(vertices.get(from));
+                if (edges.hasSet()) {
+                    to = Integer.parseInt(edges.get().getTo().getName());
+                }
+            }
+            probes[2 * p] = from;
+            probes[2 * p + 1] = to;
+        }
+        return probes;
+    }
+
+    static int randomOther(SplittableRandom random, int bound, int except) {
+        int value = random.nextInt(bound - 1);
+        return value >= except ? value + 1 : value;
+    }
+}
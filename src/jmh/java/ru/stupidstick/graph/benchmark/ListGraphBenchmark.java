@@ -0,0 +1,147 @@
+package ru.stupidstick.graph.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.ListGraph;
+import ru.stupidstick.graph.Vertex;
+
+import java.util.List;
+import java.util.Optional;
+
+@State(Scope.Thread)
+public class ListGraphBenchmark extends GraphBenchmarkSupport {
+
+    private static final int MAX_HEIGHT = 3;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int vertexCount;
+
+    @Param({GraphFixture.SPARSE, GraphFixture.DENSE})
+    public String density;
+
+    @Param({"false", "true"})
+    public boolean indexIncoming;
+
+    @Override
+    protected Graph<String, String, Integer> newGraph() {
+        return new ListGraph<>(true, vertexCount, indexIncoming);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        build(vertexCount, density);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Vertex<String, String>> insertVertex(InsertedVertices scratch) {
+        for (int k = 0; k < BATCH; k++) {
+            scratch.vertices.add(graph.insertVertex("scratch", "scratch"));
+        }
+        return scratch.vertices;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int removeVertex(AttachedVertices scratch) {
+        int removed = 0;
+        for (Vertex<String, String> vertex : scratch.vertices) {
+            removed += graph.removeVertex(vertex) ? 1 : 0;
+        }
+        scratch.vertices.clear();
+        return removed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertEdge(FreePairs scratch, Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(graph.insertEdge(scratch.from.get(i), scratch.to.get(i)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int deleteEdge(SingleEdges scratch) {
+        int deleted = 0;
+        for (Edge<String, String, Integer> edge : scratch.edges) {
+            deleted += graph.deleteEdge(edge.getFrom(), edge.getTo()) ? 1 : 0;
+        }
+        return deleted;
+    }
+
+    @Benchmark
+    public Optional<Edge<String, String, Integer>> getEdge() {
+        return graph.getEdge(probeFrom(), probeTo());
+    }
+
+    @Benchmark
+    public void edgeIterator(Blackhole blackhole) {
+        scanAllEdges(blackhole);
+    }
+
+    @Benchmark
+    public void edgeIteratorOfVertex(Blackhole blackhole) {
+        scanEdgesOf(nextVertex(), blackhole);
+    }
+
+    @Benchmark
+    public List<Edge<String, String, Integer>> findSpanningTreeWithHeightLimit() {
+        return graph.findSpanningTreeWithHeightLimit(MAX_HEIGHT);
+    }
+
+    @State(Scope.Thread)
+    public static class InsertedVertices extends Scratch {
+
+        @TearDown(Level.Invocation)
+        public void tearDown(ListGraphBenchmark benchmark) {
+            detach(benchmark);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AttachedVertices extends Scratch {
+
+        @Setup(Level.Invocation)
+        public void setUp(ListGraphBenchmark benchmark) {
+            attach(benchmark, GraphFixture.degree(benchmark.density));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FreePairs extends Scratch {
+
+        @Setup(Level.Invocation)
+        public void setUp(ListGraphBenchmark benchmark) {
+            pickFreePairs(benchmark);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown(ListGraphBenchmark benchmark) {
+            deleteInserted(benchmark);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SingleEdges extends Scratch {
+
+        @Setup(Level.Invocation)
+        public void setUp(ListGraphBenchmark benchmark) {
+            pickSingleEdges(benchmark);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown(ListGraphBenchmark benchmark) {
+            reinsertDeleted(benchmark);
+        }
+    }
+}
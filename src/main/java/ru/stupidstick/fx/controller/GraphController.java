@@ -1,40 +1,51 @@
 package ru.stupidstick.fx.controller;
 
+import javafx.concurrent.Task;
 import javafx.concurrent.Worker;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.HPos;
 import javafx.geometry.VPos;
 import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.web.WebEngine;
 import javafx.scene.web.WebView;
 import javafx.stage.Stage;
-import org.apache.commons.io.FileUtils;
+import netscape.javascript.JSObject;
 import ru.stupidstick.fx.graph.VisEdge;
 import ru.stupidstick.fx.graph.VisGraph;
+import ru.stupidstick.fx.graph.VisGraphDelta;
 import ru.stupidstick.fx.graph.VisNode;
+import ru.stupidstick.fx.jsonutils.VisScriptWriter;
+import ru.stupidstick.fx.task.GraphJob;
+import ru.stupidstick.fx.task.GraphTaskService;
+import ru.stupidstick.graph.CsrGraph;
 import ru.stupidstick.graph.MatrixGraph;
 import ru.stupidstick.graph.Vertex;
+import ru.stupidstick.graph.layout.ForceLayout;
+import ru.stupidstick.graph.lod.LevelOfDetail;
 
-import java.io.File;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.ResourceBundle;
-import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 public class GraphController implements Initializable {
 
+    // Past this many vertices the view shows aggregates instead of the whole graph
+    private static final int LEVEL_OF_DETAIL_THRESHOLD = 2000;
+
+    private static final int MAX_VISIBLE_NODES = 400;
+
+    private static final int MAX_VISIBLE_EDGES = 1500;
+
     @FXML
     private Pane sceneContainer;
 
@@ -53,12 +64,21 @@ public class GraphController implements Initializable {
     @FXML
     private TextField maxHeightField;
 
+    @FXML
+    private ProgressBar progressBar;
+
+    private final GraphTaskService tasks = new GraphTaskService();
+
+    private final ForceLayout layout = new ForceLayout();
+
     private Browser browser;
 
     private List<Vertex<String, String>> vertices = new ArrayList<>();
 
     private MatrixGraph<String, String, String> graph = new MatrixGraph<>(true);
 
+    // The aggregated view in use, null while the graph is drawn whole
+    private LevelOfDetail<String, String, String> levelOfDetail;
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
@@ -74,7 +94,11 @@ public class GraphController implements Initializable {
         graph.insertEdge(vertices.get(4), vertices.get(5));
         graph.insertEdge(vertices.get(5), vertices.get(6));
         graph.insertEdge(vertices.get(6), vertices.get(4));
-        updateBrowser();
+
+        browser = new Browser();
+        browser.setOnDoubleClick(this::toggleAggregate);
+        sceneContainer.getChildren().setAll(browser);
+        render();
     }
 
     @FXML
@@ -85,7 +109,7 @@ public class GraphController implements Initializable {
             return;
         }
         vertices.add(graph.insertVertex(name, data));
-        updateBrowser();
+        render();
     }
 
     @FXML
@@ -103,7 +127,7 @@ public class GraphController implements Initializable {
         }
         var edge = graph.insertEdge(v1, v2);
         edge.setData(data);
-        updateBrowser();
+        render();
     }
 
     @FXML
@@ -118,7 +142,7 @@ public class GraphController implements Initializable {
         }
         graph.removeVertex(vertex);
         vertices.remove(vertex);
-        updateBrowser();
+        render();
     }
 
     @FXML
@@ -134,85 +158,170 @@ public class GraphController implements Initializable {
             return;
         }
         graph.deleteEdge(v1, v2);
-        updateBrowser();
+        render();
     }
 
+    // The spanning tree is computed on a frozen copy in the background, so the window stays responsive
     @FXML
     public void ostav() {
         int maxHeight = Integer.parseInt(maxHeightField.getText());
         if (maxHeight < 2)
             return;
 
-        Stage stage = new Stage();
-        Map<Vertex<String, String>, VisNode> vertexMap = new LinkedHashMap<>();
+        CsrGraph<String, String, String> snapshot = graph.freeze();
+        run("ostav", progress -> {
+            progress.update(0, 3);
+            var ostavEdges = snapshot.findSpanningTreeWithHeightLimit(maxHeight);
+            if (progress.isCancelled()) {
+                return null;
+            }
+            progress.update(1, 3);
+
+            Map<Vertex<String, String>, VisNode> vertexMap = new LinkedHashMap<>();
+            ostavEdges.forEach(e -> {
+                vertexMap.computeIfAbsent(e.getFrom(), vertex -> new VisNode(vertexMap.size(), vertex.toString()));
+                vertexMap.computeIfAbsent(e.getTo(), vertex -> new VisNode(vertexMap.size(), vertex.toString()));
+            });
+            VisGraph visGraph = new VisGraph();
+            visGraph.addNodes(vertexMap.values().toArray(VisNode[]::new));
+            visGraph.addEdges(ostavEdges.stream().map(edge -> new VisEdge(
+                    vertexMap.get(edge.getFrom()),
+                    vertexMap.get(edge.getTo()),
+                    "to",
+                    edge.getData()
+            )).toArray(VisEdge[]::new));
+            progress.update(2, 3);
+            layout.layout(visGraph);
+            progress.update(3, 3);
+            return visGraph;
+        }, visGraph -> {
+            Stage stage = new Stage();
+            Browser browser = new Browser(visGraph);
+            Scene scene = new Scene(browser, 640, 480);
+            stage.setScene(scene);
+            stage.show();
+        });
+    }
 
-        var ostavEdges = graph.findSpanningTreeWithHeightLimit(maxHeight);
-        ostavEdges.forEach(e -> {
-            vertexMap.put(e.getFrom(), new VisNode(new Random().nextInt(), e.getFrom().toString()));
-            vertexMap.put(e.getTo(), new VisNode(new Random().nextInt(), e.getTo().toString()));
+    @FXML
+    public void cancelTasks() {
+        tasks.cancelAll();
+        progressBar.progressProperty().unbind();
+        progressBar.setProgress(0);
+    }
 
-        });
-        VisGraph visGraph = new VisGraph();
-        visGraph.addNodes(vertexMap.values().toArray(VisNode[]::new));
-        visGraph.addEdges(ostavEdges.stream().map(edge -> new VisEdge(
-                vertexMap.get(edge.getFrom()),
-                vertexMap.get(edge.getTo()),
-                "to",
-                edge.getData()
-        )).toArray(VisEdge[]::new));
-
-        Browser browser = new Browser(visGraph);
-        Scene scene = new Scene(browser, 640, 480);
-        stage.setScene(scene);
-        stage.show();
-    }
-
-    private void updateBrowser() {
-        browser = new Browser(graph.toVisGraph());
-        sceneContainer.getChildren().setAll(browser);
+    private <T> void run(String key, GraphJob<T> job, Consumer<? super T> onSuccess) {
+        Task<T> task = tasks.submit(key, job, onSuccess);
+        progressBar.progressProperty().bind(task.progressProperty());
     }
 
+    // Small graphs get only the change since the last render. Large ones are re-aggregated in the background;
+    // a burst of edits coalesces into one aggregation of the latest state. Either way a pending aggregation or
+    // toggle layout is stale by now and must not replace what this render shows.
+    private void render() {
+        if (vertices.size() > LEVEL_OF_DETAIL_THRESHOLD) {
+            CsrGraph<String, String, String> snapshot = graph.freeze();
+            tasks.cancel("layout");
+            run("render", progress -> {
+                var aggregated = new LevelOfDetail<>(snapshot, MAX_VISIBLE_NODES, MAX_VISIBLE_EDGES);
+                progress.update(1, 3);
+                var view = new AggregatedView(aggregated, aggregated.toVisGraph());
+                progress.update(2, 3);
+                layout.layout(view.visGraph());
+                progress.update(3, 3);
+                return view;
+            }, view -> {
+                levelOfDetail = view.levelOfDetail();
+                browser.setGraph(view.visGraph());
+            });
+        } else {
+            tasks.cancel("render");
+            tasks.cancel("layout");
+            if (levelOfDetail != null) {
+                levelOfDetail = null;
+                browser.setGraph(graph.toVisGraph());
+            } else {
+                browser.applyDelta(graph.visDelta());
+            }
+        }
+    }
 
+    private void toggleAggregate(long id) {
+        if (levelOfDetail != null && levelOfDetail.toggle(id)) {
+            // toVisGraph walks every edge of the graph, so only the toggle itself happens here
+            var toggled = levelOfDetail.snapshot();
+            run("layout", progress -> {
+                VisGraph visGraph = toggled.toVisGraph();
+                progress.update(1, 2);
+                layout.layout(visGraph);
+                progress.update(2, 2);
+                return visGraph;
+            }, browser::setGraph);
+        }
+    }
 
+    private record AggregatedView(LevelOfDetail<String, String, String> levelOfDetail, VisGraph visGraph) {
+    }
 }
 
+// One WebView for the lifetime of the view: the page is loaded once from the classpath and every later
+// change is a script run against it. Scripts issued while the page is still loading are queued.
 class Browser extends Region {
 
     private final WebView webView = new WebView();
     private final WebEngine webEngine = webView.getEngine();
-    private final VisGraph graph;
+    private final VisScriptWriter scripts = new VisScriptWriter(this::execute);
+    private final List<String> pending = new ArrayList<>();
+    private boolean loaded;
+    // held here as well: the page keeps only a weak reference to it
+    private NodeBridge bridge;
 
-    public Browser(VisGraph g) {
-        this.graph = g;
+    public Browser() {
         getStyleClass().add("browser");
+        webEngine.getLoadWorker().stateProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue == Worker.State.SUCCEEDED) {
+                loaded = true;
+                exposeBridge();
+                pending.forEach(webEngine::executeScript);
+                pending.clear();
+            }
+        });
+        webEngine.load(Browser.class.getResource("/baseGraph.html").toExternalForm());
+        getChildren().add(webView);
+    }
 
-        String tmpDir = "tmp/" + UUID.randomUUID();
-        try {
-            FileUtils.cleanDirectory(new File("tmp"));
-            File file = new File(tmpDir + "/baseGraph.html");
-            file.mkdirs();
-            File directory = new File(tmpDir + "/graphLibraries");
-            Files.copy(Path.of("src/main/resources/baseGraph.html"), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
-            FileUtils.copyDirectory(new File("src/main/resources/graphLibraries"), directory);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
+    public Browser(VisGraph graph) {
+        this();
+        setGraph(graph);
+    }
 
-        webEngine.load("file:/" + Paths.get("").toAbsolutePath() + "/" + tmpDir + "/baseGraph.html");
+    public void setGraph(VisGraph graph) {
+        scripts.setGraph(graph);
+    }
 
-        getChildren().add(webView);
-        setGraph();
+    public void applyDelta(VisGraphDelta delta) {
+        scripts.applyDelta(delta);
+    }
 
+    public void setOnDoubleClick(LongConsumer action) {
+        bridge = new NodeBridge(action);
+        if (loaded) {
+            exposeBridge();
+        }
     }
 
-    private void setGraph() {
+    private void exposeBridge() {
+        if (bridge != null) {
+            ((JSObject) webEngine.executeScript("window")).setMember("graphBridge", bridge);
+        }
+    }
 
-        String script = "setTheData(" + graph.getNodesJson() + "," + graph.getEdgesJson() + ")";
-        webEngine.getLoadWorker().stateProperty().addListener((observable, oldValue, newValue) -> {
-            if (newValue == Worker.State.SUCCEEDED)
-                webEngine.executeScript(script);
-        });
+    private void execute(String script) {
+        if (loaded) {
+            webEngine.executeScript(script);
+        } else {
+            pending.add(script);
+        }
     }
 
     @Override
@@ -0,0 +1,19 @@
+package ru.stupidstick.fx.controller;
+
+import java.util.function.LongConsumer;
+
+// Entry point for baseGraph.html, which calls doubleClicked with the id of the node under the pointer.
+// Public, because the WebView lets scripts call only public methods of public classes.
+public class NodeBridge {
+
+    private final LongConsumer onDoubleClick;
+
+    NodeBridge(LongConsumer onDoubleClick) {
+        this.onDoubleClick = onDoubleClick;
+    }
+
+    // The id comes as a string: JavaScript numbers do not convert to long
+    public void doubleClicked(String id) {
+        onDoubleClick.accept(Long.parseLong(id));
+    }
+}
@@ -1,10 +1,13 @@
 package ru.stupidstick.fx.graph;
 
-import com.google.gson.GsonBuilder;
 import ru.stupidstick.fx.jsonutils.VisEdgeAdapter;
 
 
 public class VisEdge {
+    // id of an edge that has not been given one; vis.js then assigns its own
+    public static final long NO_ID = -1;
+
+    private long id = NO_ID;
     private VisNode from;
     private VisNode to;
     private String arrows;
@@ -17,10 +20,21 @@ public class VisEdge {
         this.label = label;
     }
 
+    public VisEdge(long id, VisNode from, VisNode to, String arrows, String label) {
+        this(from, to, arrows, label);
+        this.id = id;
+    }
+
     public String toJson() {
-        GsonBuilder gsonBuilder = new GsonBuilder();
-        gsonBuilder.registerTypeAdapter(VisEdge.class, new VisEdgeAdapter());
-        return gsonBuilder.create().toJson(this);
+        return VisEdgeAdapter.INSTANCE.toJson(this);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
     }
 
     public VisNode getFrom() {
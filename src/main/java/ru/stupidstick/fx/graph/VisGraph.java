@@ -1,15 +1,22 @@
 package ru.stupidstick.fx.graph;
 
-import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import org.apache.commons.io.output.StringBuilderWriter;
+import ru.stupidstick.fx.jsonutils.JsonElementWriter;
 import ru.stupidstick.fx.jsonutils.VisEdgeAdapter;
+import ru.stupidstick.fx.jsonutils.VisNodeAdapter;
 
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 
 public class VisGraph {
 
@@ -40,13 +47,35 @@ public class VisGraph {
         return new ArrayList<>(nodes.values());
     }
 
+    public Collection<VisNode> getNodes(){
+        return Collections.unmodifiableCollection(nodes.values());
+    }
+
+    public List<VisEdge> getEdges(){
+        return Collections.unmodifiableList(edges);
+    }
+
     public String getNodesJson(){
-        Gson gson = new Gson();
-        return gson.toJson(nodesAsList());
+        return toJsonArray(nodes.values(), VisNodeAdapter.INSTANCE);
     }
 
     public String getEdgesJson(){
-        return VisEdgeAdapter.getAsJsonArray(edges).toString();
+        return toJsonArray(edges, VisEdgeAdapter.INSTANCE);
+    }
+
+    // Streams straight into the string, without a JsonArray in between
+    private static <T> String toJsonArray(Collection<T> values, JsonElementWriter<T> writer){
+        StringBuilderWriter buffer = new StringBuilderWriter();
+        try (JsonWriter out = new JsonWriter(buffer)) {
+            out.setSerializeNulls(false);
+            out.beginArray();
+            for (T value : values)
+                writer.write(out, value);
+            out.endArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toString();
     }
 
     public boolean containsNode(long offset) {
@@ -58,14 +87,10 @@ public class VisGraph {
     }
 
     public void saveAsSif(String destFile){
-        BufferedWriter fos = null;
-        try {
-            fos = new BufferedWriter(new FileWriter(new File(destFile)));
+        try (BufferedWriter fos = new BufferedWriter(new FileWriter(new File(destFile)))) {
             for(VisEdge visEdge : edges){
                 fos.write(visEdge.getFrom().getLabel() + " " + visEdge.getLabel() + " " + visEdge.getTo().getLabel() + "\n");
-                fos.flush();
             }
-            fos.close();
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -0,0 +1,111 @@
+package ru.stupidstick.fx.graph;
+
+import com.google.gson.stream.JsonWriter;
+import org.apache.commons.io.output.StringBuilderWriter;
+import ru.stupidstick.fx.jsonutils.JsonElementWriter;
+import ru.stupidstick.fx.jsonutils.VisEdgeAdapter;
+import ru.stupidstick.fx.jsonutils.VisNodeAdapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// A change to a rendered VisGraph, sent to the page by VisScriptWriter. Nodes and edges are matched
+// by id, so every element in a delta must carry the id it was first added with.
+public class VisGraphDelta {
+
+    private final List<VisNode> addedNodes = new ArrayList<>();
+    private final List<VisNode> updatedNodes = new ArrayList<>();
+    private final List<Long> removedNodes = new ArrayList<>();
+    private final List<VisEdge> addedEdges = new ArrayList<>();
+    private final List<VisEdge> updatedEdges = new ArrayList<>();
+    private final List<Long> removedEdges = new ArrayList<>();
+
+    public void addNode(VisNode node) {
+        addedNodes.add(node);
+    }
+
+    public void updateNode(VisNode node) {
+        updatedNodes.add(node);
+    }
+
+    public void removeNode(VisNode node) {
+        removedNodes.add(node.getId());
+    }
+
+    public void addEdge(VisEdge edge) {
+        addedEdges.add(edge);
+    }
+
+    public void updateEdge(VisEdge edge) {
+        updatedEdges.add(edge);
+    }
+
+    public void removeEdge(VisEdge edge) {
+        removedEdges.add(edge.getId());
+    }
+
+    public boolean isEmpty() {
+        return addedNodes.isEmpty() && updatedNodes.isEmpty() && removedNodes.isEmpty()
+                && addedEdges.isEmpty() && updatedEdges.isEmpty() && removedEdges.isEmpty();
+    }
+
+    public List<VisNode> getAddedNodes() {
+        return addedNodes;
+    }
+
+    public List<VisNode> getUpdatedNodes() {
+        return updatedNodes;
+    }
+
+    public List<Long> getRemovedNodes() {
+        return removedNodes;
+    }
+
+    public List<VisEdge> getAddedEdges() {
+        return addedEdges;
+    }
+
+    public List<VisEdge> getUpdatedEdges() {
+        return updatedEdges;
+    }
+
+    public List<Long> getRemovedEdges() {
+        return removedEdges;
+    }
+
+    public String toJson() {
+        StringBuilderWriter buffer = new StringBuilderWriter();
+        try (JsonWriter out = new JsonWriter(buffer)) {
+            out.setSerializeNulls(false);
+            out.beginObject();
+            writeArray(out.name("addedNodes"), addedNodes, VisNodeAdapter.INSTANCE);
+            writeArray(out.name("updatedNodes"), updatedNodes, VisNodeAdapter.INSTANCE);
+            writeIds(out.name("removedNodes"), removedNodes);
+            writeArray(out.name("addedEdges"), addedEdges, VisEdgeAdapter.INSTANCE);
+            writeArray(out.name("updatedEdges"), updatedEdges, VisEdgeAdapter.INSTANCE);
+            writeIds(out.name("removedEdges"), removedEdges);
+            out.endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toString();
+    }
+
+    private static <T> void writeArray(JsonWriter out, List<T> values, JsonElementWriter<T> writer) throws IOException {
+        out.beginArray();
+        for (T value : values) {
+            writer.write(out, value);
+        }
+        out.endArray();
+    }
+
+    private static void writeIds(JsonWriter out, List<Long> ids) throws IOException {
+        out.beginArray();
+        for (long id : ids) {
+            out.value(id);
+        }
+        out.endArray();
+    }
+}
@@ -1,14 +1,17 @@
 package ru.stupidstick.fx.graph;
 
-import com.google.gson.Gson;
+import ru.stupidstick.fx.jsonutils.VisNodeAdapter;
 
 public class VisNode {
     private long id;
     private String label;
 
+    // Position from ForceLayout, NaN until the node has been placed
+    private double x = Double.NaN;
+    private double y = Double.NaN;
+
     public String toJson(){
-        Gson gson = new Gson();
-        return gson.toJson(this);
+        return VisNodeAdapter.INSTANCE.toJson(this);
     }
 
     public VisNode(long id, String label) {
@@ -31,4 +34,21 @@ public class VisNode {
     public void setLabel(String label) {
         this.label = label;
     }
+
+    public boolean hasPosition() {
+        return !Double.isNaN(x) && !Double.isNaN(y);
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
 }
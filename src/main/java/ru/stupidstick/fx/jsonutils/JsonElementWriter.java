@@ -0,0 +1,26 @@
+package ru.stupidstick.fx.jsonutils;
+
+import com.google.gson.stream.JsonWriter;
+import org.apache.commons.io.output.StringBuilderWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Streams one value into a JsonWriter. The vis types only travel to the page, never back, so there is
+// nothing to read.
+@FunctionalInterface
+public interface JsonElementWriter<T> {
+
+    void write(JsonWriter out, T value) throws IOException;
+
+    default String toJson(T value) {
+        StringBuilderWriter buffer = new StringBuilderWriter();
+        try (JsonWriter out = new JsonWriter(buffer)) {
+            out.setSerializeNulls(false);
+            write(out, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toString();
+    }
+}
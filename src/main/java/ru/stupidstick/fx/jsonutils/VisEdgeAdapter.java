@@ -1,34 +1,25 @@
 package ru.stupidstick.fx.jsonutils;
 
-import com.google.gson.*;
+import com.google.gson.stream.JsonWriter;
 import ru.stupidstick.fx.graph.VisEdge;
 
+import java.io.IOException;
 
-import java.lang.reflect.Type;
-import java.util.ArrayList;
+// Writes an edge as vis.js expects it: endpoints by node id. Stateless, so the one instance is shared.
+public class VisEdgeAdapter implements JsonElementWriter<VisEdge> {
 
-public class VisEdgeAdapter implements JsonSerializer<VisEdge>{
+    public static final VisEdgeAdapter INSTANCE = new VisEdgeAdapter();
 
     @Override
-    public JsonElement serialize(VisEdge visEdge, Type type, JsonSerializationContext jsonSerializationContext) {
-        return getAsJsonObject(visEdge);
-
-    }
-
-    public static JsonArray getAsJsonArray(ArrayList<VisEdge> edges){
-        JsonArray jsonArray = new JsonArray();
-        for(VisEdge visEdge : edges){
-            jsonArray.add(getAsJsonObject(visEdge));
+    public void write(JsonWriter out, VisEdge visEdge) throws IOException {
+        out.beginObject();
+        if (visEdge.getId() != VisEdge.NO_ID) {
+            out.name("id").value(visEdge.getId());
         }
-        return jsonArray;
-    }
-
-    private static JsonObject getAsJsonObject(VisEdge visEdge){
-        JsonObject jsonObject = new JsonObject();
-        jsonObject.addProperty("from",visEdge.getFrom().getId());
-        jsonObject.addProperty("to",visEdge.getTo().getId());
-        jsonObject.addProperty("label",visEdge.getLabel());
-        jsonObject.addProperty("arrows",visEdge.getArrows());
-        return jsonObject;
+        out.name("from").value(visEdge.getFrom().getId());
+        out.name("to").value(visEdge.getTo().getId());
+        out.name("label").value(visEdge.getLabel());
+        out.name("arrows").value(visEdge.getArrows());
+        out.endObject();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package ru.stupidstick.fx.jsonutils;
+
+import com.google.gson.stream.JsonWriter;
+import ru.stupidstick.fx.graph.VisNode;
+
+import java.io.IOException;
+
+// Writes a node field by field, without the reflection Gson would otherwise use. Stateless and shared.
+public class VisNodeAdapter implements JsonElementWriter<VisNode> {
+
+    public static final VisNodeAdapter INSTANCE = new VisNodeAdapter();
+
+    @Override
+    public void write(JsonWriter out, VisNode visNode) throws IOException {
+        out.beginObject();
+        out.name("id").value(visNode.getId());
+        out.name("label").value(visNode.getLabel());
+        if (visNode.hasPosition()) {
+            out.name("x").value(visNode.getX());
+            out.name("y").value(visNode.getY());
+        }
+        out.endObject();
+    }
+}
@@ -0,0 +1,84 @@
+package ru.stupidstick.fx.jsonutils;
+
+import com.google.gson.stream.JsonWriter;
+import org.apache.commons.io.output.StringBuilderWriter;
+import ru.stupidstick.fx.graph.VisGraph;
+import ru.stupidstick.fx.graph.VisGraphDelta;
+import ru.stupidstick.fx.graph.VisNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+// Turns graph data into calls of the page functions in baseGraph.html. Elements are streamed through the
+// shared adapters into one reused buffer, and a call is cut off once it holds chunkSize characters, so
+// neither side of the bridge ever holds a JSON tree or a script the size of the whole graph.
+public class VisScriptWriter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private static final JsonElementWriter<Long> ID_WRITER = (out, id) -> out.value(id.longValue());
+
+    private final Consumer<String> engine;
+
+    private final int chunkSize;
+
+    private final StringBuilderWriter buffer;
+
+    public VisScriptWriter(Consumer<String> engine) {
+        this(engine, DEFAULT_CHUNK_SIZE);
+    }
+
+    public VisScriptWriter(Consumer<String> engine, int chunkSize) {
+        this.engine = engine;
+        this.chunkSize = chunkSize;
+        this.buffer = new StringBuilderWriter(chunkSize + 256);
+    }
+
+    // A graph placed by ForceLayout is drawn as it is; otherwise vis.js physics lays it out
+    public void setGraph(VisGraph graph) {
+        boolean placed = !graph.getNodes().isEmpty() && graph.getNodes().stream().allMatch(VisNode::hasPosition);
+        engine.accept("clearData()");
+        engine.accept("setPhysics(" + !placed + ")");
+        write("addNodes", graph.getNodes(), VisNodeAdapter.INSTANCE);
+        write("addEdges", graph.getEdges(), VisEdgeAdapter.INSTANCE);
+    }
+
+    // Removals go first, so an element can be removed and re-added under the same id in one delta
+    public void applyDelta(VisGraphDelta delta) {
+        write("removeEdges", delta.getRemovedEdges(), ID_WRITER);
+        write("removeNodes", delta.getRemovedNodes(), ID_WRITER);
+        write("updateNodes", delta.getUpdatedNodes(), VisNodeAdapter.INSTANCE);
+        write("addNodes", delta.getAddedNodes(), VisNodeAdapter.INSTANCE);
+        write("updateEdges", delta.getUpdatedEdges(), VisEdgeAdapter.INSTANCE);
+        write("addEdges", delta.getAddedEdges(), VisEdgeAdapter.INSTANCE);
+    }
+
+    // function([...]) once per chunk of values; nothing at all for an empty collection
+    private <T> void write(String function, Collection<T> values, JsonElementWriter<T> writer) {
+        var iterator = values.iterator();
+        StringBuilder builder = buffer.getBuilder();
+        try {
+            while (iterator.hasNext()) {
+                builder.setLength(0);
+                builder.append(function).append('(');
+                JsonWriter out = new JsonWriter(buffer);
+                out.setSerializeNulls(false);
+                out.beginArray();
+                while (iterator.hasNext() && builder.length() < chunkSize) {
+                    writer.write(out, iterator.next());
+                }
+                out.endArray();
+                out.flush();
+                builder.append(')');
+                engine.accept(builder.toString());
+            }
+        } catch (IOException e) {
+            // the buffer is in memory and never fails
+            throw new UncheckedIOException(e);
+        } finally {
+            builder.setLength(0);
+        }
+    }
+}
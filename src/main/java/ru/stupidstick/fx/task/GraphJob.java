@@ -0,0 +1,16 @@
+package ru.stupidstick.fx.task;
+
+// A computation run by GraphTaskService off the JavaFX thread. It must only read data it owns, such as a
+// graph frozen before submission, and should check isCancelled between its steps.
+@FunctionalInterface
+public interface GraphJob<T> {
+
+    T run(Progress progress) throws Exception;
+
+    interface Progress {
+
+        void update(long done, long total);
+
+        boolean isCancelled();
+    }
+}
@@ -0,0 +1,100 @@
+package ru.stupidstick.fx.task;
+
+import javafx.concurrent.Task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Runs GraphJobs on a small pool of daemon threads and hands their results back on the JavaFX thread.
+// Requests are coalesced by key: submitting again under a key cancels the job still pending under it, and
+// only the latest job's result is delivered. Meant to be used from the JavaFX thread only.
+public class GraphTaskService {
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, Task<?>> latest = new HashMap<>();
+
+    public GraphTaskService() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    public GraphTaskService(int threads) {
+        AtomicInteger created = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "graph-task-" + created.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // a job that finds the queue full is dropped the same way as a cancelled one
+                (runnable, pool) -> ((Task<?>) runnable).cancel());
+    }
+
+    // The returned task exposes progress and state for binding; onSuccess runs on the JavaFX thread
+    public <T> Task<T> submit(String key, GraphJob<T> job, Consumer<? super T> onSuccess) {
+        JobTask<T> task = new JobTask<>(job);
+        task.setOnSucceeded(event -> {
+            if (latest.get(key) == task) {
+                latest.remove(key);
+                onSuccess.accept(task.getValue());
+            }
+        });
+        task.setOnFailed(event -> {
+            latest.remove(key, task);
+            task.getException().printStackTrace();
+        });
+        task.setOnCancelled(event -> latest.remove(key, task));
+
+        Task<?> previous = latest.put(key, task);
+        if (previous != null) {
+            previous.cancel();
+        }
+        executor.execute(task);
+        return task;
+    }
+
+    public void cancel(String key) {
+        Task<?> task = latest.remove(key);
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    public void cancelAll() {
+        latest.values().forEach(Task::cancel);
+        latest.clear();
+    }
+
+    public void shutdown() {
+        cancelAll();
+        executor.shutdownNow();
+    }
+
+    private static final class JobTask<T> extends Task<T> implements GraphJob.Progress {
+
+        private final GraphJob<T> job;
+
+        JobTask(GraphJob<T> job) {
+            this.job = job;
+        }
+
+        @Override
+        protected T call() throws Exception {
+            return job.run(this);
+        }
+
+        // updateProgress may be called from any thread; JavaFX batches the updates onto its own thread
+        @Override
+        public void update(long done, long total) {
+            updateProgress(done, total);
+        }
+    }
+}
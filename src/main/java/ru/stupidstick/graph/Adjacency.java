@@ -0,0 +1,189 @@
+package ru.stupidstick.graph;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+// Edges of one vertex, keyed by the neighbour at their other end. Small lists are a plain array scanned
+// linearly; above HASH_THRESHOLD an open addressing table from neighbour to array position is added, so
+// lookups and deletions on hub vertices stay O(1) expected. Parallel edges to the same neighbour each get
+// their own table entry. Removal keeps the order of a small list but moves the last edge into the gap of
+// a hashed one.
+final class Adjacency<N, D, W extends Comparable<W>> extends AbstractList<Edge<N, D, W>> implements RandomAccess {
+
+    static final int HASH_THRESHOLD = 32;
+
+    private static final Object[] EMPTY_EDGES = {};
+
+    private final Vertex<N, D> owner;
+
+    private Object[] edges = EMPTY_EDGES;
+
+    private int size;
+
+    // Array position + 1 per slot, 0 for an empty slot; null while the list is small
+    private int[] table;
+
+    Adjacency(Vertex<N, D> owner) {
+        this.owner = owner;
+    }
+
+    Adjacency(Vertex<N, D> owner, int capacity) {
+        this.owner = owner;
+        this.edges = capacity > 0 ? new Object[capacity] : EMPTY_EDGES;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Edge<N, D, W> get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (Edge<N, D, W>) edges[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Edge<N, D, W> edge) {
+        if (size == edges.length) {
+            edges = Arrays.copyOf(edges, Math.max(4, size + (size >> 1)));
+        }
+        edges[size++] = edge;
+        modCount++;
+        if (table != null) {
+            if (size * 2 > table.length) {
+                rehash(table.length * 2);
+            } else {
+                insertSlot(size - 1);
+            }
+        } else if (size > HASH_THRESHOLD) {
+            rehash(Integer.highestOneBit(size) << 2);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super Edge<N, D, W>> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept((Edge<N, D, W>) edges[i]);
+        }
+    }
+
+    // The first edge leading to the neighbour, null if there is none
+    Edge<N, D, W> find(Vertex<N, D> neighbour) {
+        int position = positionOf(neighbour, null);
+        return position == -1 ? null : get(position);
+    }
+
+    // Removes every edge leading to the neighbour and returns how many there were
+    int removeNeighbour(Vertex<N, D> neighbour) {
+        int removed = 0;
+        for (int position = positionOf(neighbour, null); position != -1; position = positionOf(neighbour, null)) {
+            removeAt(position);
+            removed++;
+        }
+        return removed;
+    }
+
+    // Removes this very edge object, leaving parallel edges to the same neighbour in place
+    boolean removeEdge(Edge<N, D, W> edge) {
+        int position = positionOf(neighbourOf(edge), edge);
+        if (position == -1) {
+            return false;
+        }
+        removeAt(position);
+        return true;
+    }
+
+    // Looks up by neighbour, and by identity too when an edge is given
+    private int positionOf(Vertex<N, D> neighbour, Edge<N, D, W> edge) {
+        if (table == null) {
+            for (int i = 0; i < size; i++) {
+                if (matches(i, neighbour, edge)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = table.length - 1;
+        for (int slot = home(neighbour); table[slot] != 0; slot = (slot + 1) & mask) {
+            if (matches(table[slot] - 1, neighbour, edge)) {
+                return table[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(int position, Vertex<N, D> neighbour, Edge<N, D, W> edge) {
+        Edge<N, D, W> candidate = get(position);
+        return edge == null ? neighbourOf(candidate).equals(neighbour) : candidate == edge;
+    }
+
+    private void removeAt(int position) {
+        int last = size - 1;
+        if (table == null) {
+            System.arraycopy(edges, position + 1, edges, position, last - position);
+        } else {
+            removeSlot(position);
+            if (position != last) {
+                removeSlot(last);
+                edges[position] = edges[last];
+                insertSlot(position);
+            }
+        }
+        edges[last] = null;
+        size = last;
+        modCount++;
+        if (table != null && size < HASH_THRESHOLD / 2) {
+            table = null;
+        }
+    }
+
+    private Vertex<N, D> neighbourOf(Edge<N, D, W> edge) {
+        return edge.getFrom() == owner ? edge.getTo() : edge.getFrom();
+    }
+
+    private int home(Vertex<N, D> neighbour) {
+        int hash = neighbour.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (table.length - 1);
+    }
+
+    private void insertSlot(int position) {
+        int mask = table.length - 1;
+        int slot = home(neighbourOf(get(position)));
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = position + 1;
+    }
+
+    // Backward shift deletion, as in LongObjectMap
+    private void removeSlot(int position) {
+        int mask = table.length - 1;
+        int gap = home(neighbourOf(get(position)));
+        while (table[gap] != position + 1) {
+            gap = (gap + 1) & mask;
+        }
+        for (int current = (gap + 1) & mask; table[current] != 0; current = (current + 1) & mask) {
+            int home = home(neighbourOf(get(table[current] - 1)));
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                table[gap] = table[current];
+                gap = current;
+            }
+        }
+        table[gap] = 0;
+    }
+
+    private void rehash(int tableSize) {
+        table = new int[tableSize];
+        for (int i = 0; i < size; i++) {
+            insertSlot(i);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package ru.stupidstick.graph;
+
+import ru.stupidstick.fx.graph.VisGraph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Adjacency matrix kept as one long[] bitset per row; Edge objects live in a side table only for set cells.
+// Rows are allocated on the first outgoing edge and widened on demand, so empty rows cost nothing.
+public class BitMatrixGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final boolean isDirected;
+
+    private final Map<Vertex<N, D>, Integer> indices = new HashMap<>();
+
+    private final LongObjectMap<Edge<N, D, W>> payloads = new LongObjectMap<>();
+
+    private Vertex<N, D>[] vertices;
+
+    private long[][] rows;
+
+    private int slotCount;
+
+    private int[] freeSlots = new int[16];
+
+    private int freeCount;
+
+    public BitMatrixGraph(boolean isDirected) {
+        this(isDirected, INITIAL_CAPACITY);
+    }
+
+    public BitMatrixGraph(boolean isDirected, int expectedVertexCount) {
+        this.isDirected = isDirected;
+        this.vertices = newVertexArray(Math.max(expectedVertexCount, 1));
+        this.rows = new long[vertices.length][];
+    }
+
+    @Override
+    public Vertex<N, D> insertVertex(N name, D data) {
+        Vertex<N, D> vertex = new Vertex<>(name, data);
+        insertVertex(vertex);
+        return vertex;
+    }
+
+    @Override
+    public void ensureCapacity(int vertexCount, long edgeCount) {
+        if (vertexCount > vertices.length) {
+            // at least double, so a run of batch inserts does not copy the slot arrays each time
+            int capacity = (int) Math.max(vertexCount, Math.min(Integer.MAX_VALUE - 8, 2L * vertices.length));
+            vertices = Arrays.copyOf(vertices, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+        }
+        payloads.ensureCapacity((int) Math.min(Integer.MAX_VALUE, isDirected ? edgeCount : 2 * edgeCount));
+    }
+
+    @Override
+    public void insertVertices(Collection<? extends Vertex<N, D>> batch) {
+        for (var vertex : batch) {
+            if (indices.containsKey(vertex)) {
+                throw new IllegalArgumentException("Vertex already present");
+            }
+        }
+        ensureCapacity(slotCount + batch.size() - freeCount, 0);
+        batch.forEach(this::insertVertex);
+    }
+
+    @Override
+    public void insertEdges(Collection<? extends Edge<N, D, W>> batch) {
+        for (var edge : batch) {
+            if (indexOf(edge.getFrom()) == -1 || indexOf(edge.getTo()) == -1) {
+                throw new IllegalArgumentException("Vertex not found");
+            }
+        }
+        for (var edge : batch) {
+            insertEdge(indexOf(edge.getFrom()), indexOf(edge.getTo()), edge);
+        }
+    }
+
+    @Override
+    public boolean removeVertex(Vertex<N, D> vertex) {
+        Integer removed = indices.remove(vertex);
+        if (removed == null) {
+            return false;
+        }
+        int slot = removed;
+
+        long[] row = rows[slot];
+        if (row != null) {
+            for (int word = 0; word < row.length; word++) {
+                long bits = row[word];
+                while (bits != 0) {
+                    int column = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    payloads.remove(key(slot, column));
+                    bits &= bits - 1;
+                }
+            }
+            rows[slot] = null;
+        }
+        for (int i = 0; i < slotCount; i++) {
+            if (isSet(i, slot)) {
+                clear(i, slot);
+                payloads.remove(key(i, slot));
+            }
+        }
+
+        vertices[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    @Override
+    public Edge<N, D, W> insertEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+
+        Edge<N, D, W> edge = new Edge<>(v1, v2);
+        insertEdge(i1, i2, edge);
+        return edge;
+    }
+
+    @Override
+    public boolean deleteEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1) {
+            return false;
+        }
+
+        clear(i1, i2);
+        payloads.remove(key(i1, i2));
+        if (!isDirected) {
+            clear(i2, i1);
+            payloads.remove(key(i2, i1));
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<Edge<N, D, W>> getEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1 || !isSet(i1, i2)) {
+            return Optional.empty();
+        }
+        return Optional.of(payloads.get(key(i1, i2)));
+    }
+
+    @Override
+    public VisGraph toVisGraph() {
+        return GraphVisConverter.toVisGraph(this);
+    }
+
+    @Override
+    public Iterator<Vertex<N, D>> vertexIterator() {
+        return new VertexIterator();
+    }
+
+    @Override
+    public Iterator<Edge<N, D, W>> edgeIterator() {
+        return new EdgeIterator(0, slotCount);
+    }
+
+    @Override
+    public Iterator<Edge<N, D, W>> edgeIterator(Vertex<N, D> vertex) {
+        int index = indexOf(vertex);
+        if (index == -1) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+        return new EdgeIterator(index, index + 1);
+    }
+
+    @Override
+    public Stream<Vertex<N, D>> vertices() {
+        return Arrays.stream(vertices, 0, slotCount).filter(Objects::nonNull);
+    }
+
+    @Override
+    public Stream<Edge<N, D, W>> edges() {
+        return GraphStreams.byRows(slotCount, this::cardinality, new GraphStreams.Rows<>() {
+            @Override
+            public int next(int row, int position) {
+                return nextSetBit(row, position);
+            }
+
+            @Override
+            public Edge<N, D, W> get(int row, int position) {
+                return payloads.get(key(row, position));
+            }
+        });
+    }
+
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    private int indexOf(Vertex<N, D> vertex) {
+        Integer index = indices.get(vertex);
+        return index == null ? -1 : index;
+    }
+
+    private void insertVertex(Vertex<N, D> vertex) {
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+        vertices[slot] = vertex;
+        indices.put(vertex, slot);
+    }
+
+    private void insertEdge(int i1, int i2, Edge<N, D, W> edge) {
+        set(i1, i2);
+        payloads.put(key(i1, i2), edge);
+        if (!isDirected) {
+            set(i2, i1);
+            payloads.put(key(i2, i1), edge);
+        }
+    }
+
+    private int nextSlot() {
+        if (slotCount == vertices.length) {
+            vertices = Arrays.copyOf(vertices, slotCount * 2);
+            rows = Arrays.copyOf(rows, slotCount * 2);
+        }
+        return slotCount++;
+    }
+
+    private boolean isSet(int row, int column) {
+        long[] words = rows[row];
+        int word = column >>> 6;
+        return words != null && word < words.length && (words[word] & (1L << column)) != 0;
+    }
+
+    private void set(int row, int column) {
+        long[] words = rows[row];
+        int word = column >>> 6;
+        if (words == null || word >= words.length) {
+            int length = Math.max(word + 1, words == null ? 1 : words.length * 2);
+            words = words == null ? new long[length] : Arrays.copyOf(words, length);
+            rows[row] = words;
+        }
+        words[word] |= 1L << column;
+    }
+
+    private void clear(int row, int column) {
+        long[] words = rows[row];
+        int word = column >>> 6;
+        if (words != null && word < words.length) {
+            words[word] &= ~(1L << column);
+        }
+    }
+
+    private long cardinality(int row) {
+        long[] words = rows[row];
+        long count = 0;
+        if (words != null) {
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+        }
+        return count;
+    }
+
+    private int nextSetBit(int row, int column) {
+        long[] words = rows[row];
+        int word = column >>> 6;
+        if (words == null || word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << column);
+        while (bits == 0) {
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | column;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <N, D> Vertex<N, D>[] newVertexArray(int capacity) {
+        return (Vertex<N, D>[]) new Vertex<?, ?>[capacity];
+    }
+
+    private class VertexIterator implements Iterator<Vertex<N, D>> {
+
+        private int slot = -1;
+
+        VertexIterator() {
+            next();
+        }
+
+        @Override
+        public void next() {
+            do {
+                slot++;
+            } while (slot < slotCount && vertices[slot] == null);
+        }
+
+        @Override
+        public boolean hasSet() {
+            return slot < slotCount;
+        }
+
+        @Override
+        public Vertex<N, D> get() {
+            return vertices[slot];
+        }
+    }
+
+    // Walks the set bits of rows [row, endRow) a word at a time
+    private class EdgeIterator implements Iterator<Edge<N, D, W>> {
+
+        private final int endRow;
+
+        private int row;
+
+        private int word = -1;
+
+        private long bits;
+
+        private int column = -1;
+
+        EdgeIterator(int row, int endRow) {
+            this.row = row;
+            this.endRow = endRow;
+            next();
+        }
+
+        @Override
+        public void next() {
+            while (bits == 0) {
+                long[] words = row < endRow ? rows[row] : null;
+                if (words != null && ++word < words.length) {
+                    bits = words[word];
+                    continue;
+                }
+                if (row >= endRow) {
+                    column = -1;
+                    return;
+                }
+                row++;
+                word = -1;
+            }
+            column = (word << 6) + Long.numberOfTrailingZeros(bits);
+            bits &= bits - 1;
+        }
+
+        @Override
+        public boolean hasSet() {
+            return column != -1;
+        }
+
+        @Override
+        public Edge<N, D, W> get() {
+            return payloads.get(key(row, column));
+        }
+    }
+}
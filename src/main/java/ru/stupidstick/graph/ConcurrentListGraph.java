@@ -0,0 +1,338 @@
+package ru.stupidstick.graph;
+
+import ru.stupidstick.fx.graph.VisGraph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Adjacency-list graph safe for concurrent use. Vertices live in a ConcurrentHashMap; each adjacency list is
+// an immutable (array, size) segment published through a volatile field, so readers never lock and always
+// see a consistent list. Writers serialize per vertex on one of a fixed set of striped locks: an append
+// writes past the published size and republishes, a removal copies the array. Iteration is weakly
+// consistent, as with the concurrent collections: it reflects the graph at some point at or after its start.
+public class ConcurrentListGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W> {
+
+    private static final Object[] EMPTY_EDGES = {};
+
+    private final boolean isDirected;
+
+    private final ConcurrentHashMap<Vertex<N, D>, Row> vertices;
+
+    private final Object[] locks;
+
+    private final int lockMask;
+
+    public ConcurrentListGraph(boolean isDirected) {
+        this(isDirected, 16);
+    }
+
+    public ConcurrentListGraph(boolean isDirected, int expectedVertexCount) {
+        this.isDirected = isDirected;
+        this.vertices = new ConcurrentHashMap<>(expectedVertexCount);
+        int stripes = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1) * 16 - 1) << 1;
+        this.locks = new Object[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new Object();
+        }
+        this.lockMask = stripes - 1;
+    }
+
+    @Override
+    public Vertex<N, D> insertVertex(N name, D data) {
+        Vertex<N, D> vertex = new Vertex<>(name, data);
+        vertices.put(vertex, new Row());
+        return vertex;
+    }
+
+    // The row is closed first, so an edge inserted concurrently either fails or is seen by the cleanup below
+    @Override
+    public boolean removeVertex(Vertex<N, D> vertex) {
+        Row row = vertices.get(vertex);
+        if (row == null) {
+            return false;
+        }
+        Segment removed;
+        synchronized (lockFor(vertex)) {
+            if (row.removed) {
+                return false;
+            }
+            row.removed = true;
+            removed = row.segment;
+            vertices.remove(vertex);
+        }
+
+        if (isDirected) {
+            vertices.forEach((owner, other) -> {
+                if (other.segment.indexOf(owner, vertex) != -1) {
+                    synchronized (lockFor(owner)) {
+                        other.segment = other.segment.without(owner, vertex);
+                    }
+                }
+            });
+        } else {
+            for (int i = 0; i < removed.size; i++) {
+                Edge<N, D, W> edge = edge(removed, i);
+                Vertex<N, D> neighbour = edge.getFrom() == vertex ? edge.getTo() : edge.getFrom();
+                Row other = vertices.get(neighbour);
+                if (other != null) {
+                    synchronized (lockFor(neighbour)) {
+                        other.segment = other.segment.without(neighbour, vertex);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void insertVertices(Collection<? extends Vertex<N, D>> batch) {
+        for (var vertex : batch) {
+            if (vertices.putIfAbsent(vertex, new Row()) != null) {
+                throw new IllegalArgumentException("Vertex already present");
+            }
+        }
+    }
+
+    // Each edge is published on its own; other threads may observe the batch partially applied
+    @Override
+    public void insertEdges(Collection<? extends Edge<N, D, W>> batch) {
+        batch.forEach(this::insertEdge);
+    }
+
+    @Override
+    public Edge<N, D, W> insertEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        return insertEdge(new Edge<>(v1, v2));
+    }
+
+    private Edge<N, D, W> insertEdge(Edge<N, D, W> edge) {
+        Vertex<N, D> v1 = edge.getFrom();
+        Vertex<N, D> v2 = edge.getTo();
+        Row r1 = vertices.get(v1);
+        Row r2 = vertices.get(v2);
+        if (r1 == null || r2 == null) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+        lockBoth(v1, v2, () -> {
+            if (r1.removed || r2.removed) {
+                throw new IllegalArgumentException("Vertex not found");
+            }
+            r1.segment = r1.segment.with(edge);
+            if (!isDirected) {
+                r2.segment = r2.segment.with(edge);
+            }
+        });
+        return edge;
+    }
+
+    @Override
+    public boolean deleteEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        Row r1 = vertices.get(v1);
+        Row r2 = vertices.get(v2);
+        if (r1 == null || r2 == null) {
+            return false;
+        }
+        lockBoth(v1, v2, () -> {
+            r1.segment = r1.segment.without(v1, v2);
+            if (!isDirected) {
+                r2.segment = r2.segment.without(v2, v1);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public Optional<Edge<N, D, W>> getEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        Row row = vertices.get(v1);
+        if (row == null || !vertices.containsKey(v2)) {
+            return Optional.empty();
+        }
+        Segment segment = row.segment;
+        int position = segment.indexOf(v1, v2);
+        return position == -1 ? Optional.empty() : Optional.of(edge(segment, position));
+    }
+
+    @Override
+    public VisGraph toVisGraph() {
+        return GraphVisConverter.toVisGraph(this);
+    }
+
+    @Override
+    public Iterator<Vertex<N, D>> vertexIterator() {
+        return new ListGraph.CursorIterator<>(vertices.keySet().iterator());
+    }
+
+    @Override
+    public Iterator<Edge<N, D, W>> edgeIterator() {
+        return new ListGraph.CursorIterator<>(edges().iterator());
+    }
+
+    @Override
+    public Iterator<Edge<N, D, W>> edgeIterator(Vertex<N, D> vertex) {
+        Row row = vertices.get(vertex);
+        if (row == null) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+        return new SegmentIterator(row.segment);
+    }
+
+    @Override
+    public void forEachVertex(Consumer<? super Vertex<N, D>> action) {
+        vertices.keySet().forEach(action);
+    }
+
+    @Override
+    public void forEachEdge(Consumer<? super Edge<N, D, W>> action) {
+        vertices.values().forEach(row -> forEach(row.segment, action));
+    }
+
+    @Override
+    public void forEachEdge(Vertex<N, D> vertex, Consumer<? super Edge<N, D, W>> action) {
+        Row row = vertices.get(vertex);
+        if (row != null) {
+            forEach(row.segment, action);
+        }
+    }
+
+    @Override
+    public Stream<Vertex<N, D>> vertices() {
+        return vertices.keySet().stream();
+    }
+
+    @Override
+    public Stream<Edge<N, D, W>> edges() {
+        return vertices.values().stream().flatMap(row -> {
+            Segment segment = row.segment;
+            return Arrays.stream(segment.edges, 0, segment.size).map(this::cast);
+        });
+    }
+
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    private Object lockFor(Vertex<N, D> vertex) {
+        return locks[stripe(vertex)];
+    }
+
+    // Takes the stripes of both endpoints in index order, so two writers never wait on each other in a cycle
+    private void lockBoth(Vertex<N, D> v1, Vertex<N, D> v2, Runnable action) {
+        int s1 = stripe(v1);
+        int s2 = stripe(v2);
+        synchronized (locks[Math.min(s1, s2)]) {
+            synchronized (locks[Math.max(s1, s2)]) {
+                action.run();
+            }
+        }
+    }
+
+    private int stripe(Vertex<N, D> vertex) {
+        int hash = vertex.hashCode();
+        return (hash ^ (hash >>> 16)) & lockMask;
+    }
+
+    private void forEach(Segment segment, Consumer<? super Edge<N, D, W>> action) {
+        for (int i = 0; i < segment.size; i++) {
+            action.accept(edge(segment, i));
+        }
+    }
+
+    private Edge<N, D, W> edge(Segment segment, int position) {
+        return cast(segment.edges[position]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Edge<N, D, W> cast(Object edge) {
+        return (Edge<N, D, W>) edge;
+    }
+
+    private static final class Row {
+
+        // written only under the row's stripe lock
+        private volatile Segment segment = new Segment(EMPTY_EDGES, 0);
+
+        private boolean removed;
+    }
+
+    // An immutable view of an adjacency list: slots below size are never written again
+    private static final class Segment {
+
+        private final Object[] edges;
+
+        private final int size;
+
+        Segment(Object[] edges, int size) {
+            this.edges = edges;
+            this.size = size;
+        }
+
+        // Appends in place when the array has room; slots past size are invisible to older segments
+        Segment with(Edge<?, ?, ?> edge) {
+            Object[] array = size < edges.length ? edges : Arrays.copyOf(edges, Math.max(4, size + (size >> 1)));
+            array[size] = edge;
+            return new Segment(array, size + 1);
+        }
+
+        // Drops every edge to the neighbour into a fresh array; returns this when there is none
+        Segment without(Vertex<?, ?> owner, Vertex<?, ?> neighbour) {
+            Object[] kept = null;
+            int keptSize = 0;
+            for (int i = 0; i < size; i++) {
+                Object edge = edges[i];
+                boolean drop = leadsTo(owner, edge, neighbour);
+                if (drop && kept == null) {
+                    kept = new Object[edges.length];
+                    System.arraycopy(edges, 0, kept, 0, i);
+                    keptSize = i;
+                } else if (!drop && kept != null) {
+                    kept[keptSize++] = edge;
+                }
+            }
+            return kept == null ? this : new Segment(kept, keptSize);
+        }
+
+        int indexOf(Vertex<?, ?> owner, Vertex<?, ?> neighbour) {
+            for (int i = 0; i < size; i++) {
+                if (leadsTo(owner, edges[i], neighbour)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean leadsTo(Vertex<?, ?> owner, Object stored, Vertex<?, ?> neighbour) {
+            Edge<?, ?, ?> edge = (Edge<?, ?, ?>) stored;
+            return (edge.getFrom() == owner ? edge.getTo() : edge.getFrom()).equals(neighbour);
+        }
+    }
+
+    private class SegmentIterator implements Iterator<Edge<N, D, W>> {
+
+        private final Segment segment;
+
+        private int position;
+
+        SegmentIterator(Segment segment) {
+            this.segment = segment;
+        }
+
+        @Override
+        public void next() {
+            position++;
+        }
+
+        @Override
+        public boolean hasSet() {
+            return position < segment.size;
+        }
+
+        @Override
+        public Edge<N, D, W> get() {
+            return edge(segment, position);
+        }
+    }
+}
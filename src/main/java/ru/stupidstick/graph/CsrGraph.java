@@ -0,0 +1,270 @@
+package ru.stupidstick.graph;
+
+import ru.stupidstick.fx.graph.VisGraph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Immutable compressed sparse row copy of a graph. The edges of vertex i are the slots
+// [offsets[i], offsets[i + 1]) of the targets, weights and edges arrays.
+// For undirected graphs every edge is listed in the rows of both endpoints, with the other endpoint as target.
+public class CsrGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W> {
+
+    private final boolean isDirected;
+
+    private final Vertex<N, D>[] vertices;
+
+    private final Map<Vertex<N, D>, Integer> indices;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    // Numeric weights unboxed for traversals, NaN where the weight is missing or not a Number
+    private final double[] weights;
+
+    private final Edge<N, D, W>[] edges;
+
+    private CsrGraph(boolean isDirected, Vertex<N, D>[] vertices, Map<Vertex<N, D>, Integer> indices,
+                     int[] offsets, int[] targets, double[] weights, Edge<N, D, W>[] edges) {
+        this.isDirected = isDirected;
+        this.vertices = vertices;
+        this.indices = indices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.edges = edges;
+    }
+
+    public static <N, D, W extends Comparable<W>> CsrGraph<N, D, W> of(Graph<N, D, W> graph) {
+        Map<Vertex<N, D>, Integer> indices = new HashMap<>();
+        Vertex<N, D>[] vertices = newVertexArray(16);
+        var vertexIterator = graph.vertexIterator();
+        while (vertexIterator.hasSet()) {
+            if (indices.size() == vertices.length) {
+                vertices = Arrays.copyOf(vertices, vertices.length * 2);
+            }
+            vertices[indices.size()] = vertexIterator.get();
+            indices.put(vertexIterator.get(), indices.size());
+            vertexIterator.next();
+        }
+        vertices = Arrays.copyOf(vertices, indices.size());
+
+        int[] offsets = new int[vertices.length + 1];
+        int[] targets = new int[Math.max(16, vertices.length)];
+        Edge<N, D, W>[] edges = newEdgeArray(targets.length);
+        int size = 0;
+        for (int i = 0; i < vertices.length; i++) {
+            Vertex<N, D> vertex = vertices[i];
+            var edgeIterator = graph.edgeIterator(vertex);
+            while (edgeIterator.hasSet()) {
+                Edge<N, D, W> edge = edgeIterator.get();
+                // equals rather than ==: flyweight vertices, as MappedGraph hands out, are new objects each time
+                Vertex<N, D> neighbour = graph.isDirected() || vertex.equals(edge.getFrom()) ? edge.getTo() : edge.getFrom();
+                Integer target = indices.get(neighbour);
+                if (target != null) {
+                    if (size == targets.length) {
+                        targets = Arrays.copyOf(targets, size * 2);
+                        edges = Arrays.copyOf(edges, size * 2);
+                    }
+                    targets[size] = target;
+                    edges[size] = edge;
+                    size++;
+                }
+                edgeIterator.next();
+            }
+            offsets[i + 1] = size;
+        }
+        targets = Arrays.copyOf(targets, size);
+        edges = Arrays.copyOf(edges, size);
+
+        return new CsrGraph<>(graph.isDirected(), vertices, indices, offsets, targets, weights(edges), edges);
+    }
+
+    // For graphs that already keep CSR arrays: the arrays are taken over, not copied. edges[k] is the edge
+    // of slot k; for undirected graphs both slots of an edge should hold the same Edge object.
+    public static <N, D, W extends Comparable<W>> CsrGraph<N, D, W> of(boolean isDirected, Vertex<N, D>[] vertices,
+                                                                       int[] offsets, int[] targets,
+                                                                       Edge<N, D, W>[] edges) {
+        if (offsets.length != vertices.length + 1 || targets.length != edges.length
+                || offsets[vertices.length] != targets.length) {
+            throw new IllegalArgumentException("Inconsistent CSR arrays");
+        }
+        Map<Vertex<N, D>, Integer> indices = new HashMap<>(vertices.length * 4 / 3 + 1);
+        for (int i = 0; i < vertices.length; i++) {
+            indices.put(vertices[i], i);
+        }
+        return new CsrGraph<>(isDirected, vertices, indices, offsets, targets, weights(edges), edges);
+    }
+
+    private static double[] weights(Edge<?, ?, ?>[] edges) {
+        double[] weights = new double[edges.length];
+        for (int k = 0; k < edges.length; k++) {
+            weights[k] = edges[k].getWeight() instanceof Number number ? number.doubleValue() : Double.NaN;
+        }
+        return weights;
+    }
+
+    public int vertexCount() {
+        return vertices.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public int indexOf(Vertex<N, D> vertex) {
+        Integer index = indices.get(vertex);
+        return index == null ? -1 : index;
+    }
+
+    public Vertex<N, D> vertex(int index) {
+        return vertices[index];
+    }
+
+    public int firstEdge(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int endEdge(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public double weight(int edge) {
+        return weights[edge];
+    }
+
+    public Edge<N, D, W> edge(int edge) {
+        return edges[edge];
+    }
+
+    @Override
+    public Vertex<N, D> insertVertex(N name, D data) {
+        throw new UnsupportedOperationException("CsrGraph is immutable");
+    }
+
+    @Override
+    public boolean removeVertex(Vertex<N, D> vertex) {
+        throw new UnsupportedOperationException("CsrGraph is immutable");
+    }
+
+    @Override
+    public Edge<N, D, W> insertEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        throw new UnsupportedOperationException("CsrGraph is immutable");
+    }
+
+    @Override
+    public boolean deleteEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        throw new UnsupportedOperationException("CsrGraph is immutable");
+    }
+
+    @Override
+    public Optional<Edge<N, D, W>> getEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1) {
+            return Optional.empty();
+        }
+        for (int k = offsets[i1]; k < offsets[i1 + 1]; k++) {
+            if (targets[k] == i2) {
+                return Optional.of(edges[k]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public VisGraph toVisGraph() {
+        return GraphVisConverter.toVisGraph(this);
+    }
+
+    @Override
+    public Iterator<Vertex<N, D>> vertexIterator() {
+        return new ArrayIterator<>(vertices, 0, vertices.length);
+    }
+
+    @Override
+    public Iterator<Edge<N, D, W>> edgeIterator() {
+        return new ArrayIterator<>(edges, 0, edges.length);
+    }
+
+    @Override
+    public Iterator<Edge<N, D, W>> edgeIterator(Vertex<N, D> vertex) {
+        int index = indexOf(vertex);
+        if (index == -1) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+        return new ArrayIterator<>(edges, offsets[index], offsets[index + 1]);
+    }
+
+    @Override
+    public Stream<Vertex<N, D>> vertices() {
+        return Arrays.stream(vertices);
+    }
+
+    @Override
+    public Stream<Edge<N, D, W>> edges() {
+        return Arrays.stream(edges);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    @Override
+    public CsrGraph<N, D, W> freeze() {
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <N, D> Vertex<N, D>[] newVertexArray(int length) {
+        return (Vertex<N, D>[]) new Vertex<?, ?>[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <N, D, W extends Comparable<W>> Edge<N, D, W>[] newEdgeArray(int length) {
+        return (Edge<N, D, W>[]) new Edge<?, ?, ?>[length];
+    }
+
+    private static class ArrayIterator<T> implements Iterator<T> {
+
+        private final T[] array;
+
+        private final int end;
+
+        private int index;
+
+        ArrayIterator(T[] array, int start, int end) {
+            this.array = array;
+            this.index = start;
+            this.end = end;
+        }
+
+        @Override
+        public void next() {
+            index++;
+        }
+
+        @Override
+        public boolean hasSet() {
+            return index < end;
+        }
+
+        @Override
+        public T get() {
+            return array[index];
+        }
+    }
+}
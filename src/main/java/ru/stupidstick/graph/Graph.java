@@ -1,8 +1,14 @@
 package ru.stupidstick.graph;
 
 import ru.stupidstick.fx.graph.VisGraph;
+import ru.stupidstick.fx.graph.VisGraphDelta;
+import ru.stupidstick.graph.algorithm.HeightLimitedSpanningTree;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface Graph<N, D, W extends Comparable<W>> {
 
@@ -18,6 +24,12 @@ public interface Graph<N, D, W extends Comparable<W>> {
 
     VisGraph toVisGraph();
 
+    // Rendering changes since the previous toVisGraph or visDelta call, with the same ids toVisGraph uses;
+    // the first call reports the whole graph as added. Only graphs that track their changes support it.
+    default VisGraphDelta visDelta() {
+        throw new UnsupportedOperationException("Change tracking is not supported");
+    }
+
     Iterator<Vertex<N, D>> vertexIterator();
 
     Iterator<Edge<N, D, W>> edgeIterator();
@@ -25,4 +37,63 @@ public interface Graph<N, D, W extends Comparable<W>> {
     Iterator<Edge<N, D, W>> edgeIterator(Vertex<N, D> vertex);
 
     boolean isDirected();
+
+    // Bulk loading: ensureCapacity sizes the storage for the final counts once, the batch inserts then add
+    // vertices and edges built by the caller in one pass. Edges keep their weight and data; their endpoints
+    // must already be in the graph. Read-only graphs do not support the batch inserts.
+    default void ensureCapacity(int vertexCount, long edgeCount) {
+    }
+
+    default void insertVertices(Collection<? extends Vertex<N, D>> vertices) {
+        throw new UnsupportedOperationException("Batch insertion is not supported");
+    }
+
+    default void insertEdges(Collection<? extends Edge<N, D, W>> edges) {
+        throw new UnsupportedOperationException("Batch insertion is not supported");
+    }
+
+    // Callback traversals for hot loops: no iterator or Optional per element, no copy of the storage
+    default void forEachVertex(Consumer<? super Vertex<N, D>> action) {
+        var iterator = vertexIterator();
+        while (iterator.hasSet()) {
+            action.accept(iterator.get());
+            iterator.next();
+        }
+    }
+
+    default void forEachEdge(Consumer<? super Edge<N, D, W>> action) {
+        var iterator = edgeIterator();
+        while (iterator.hasSet()) {
+            action.accept(iterator.get());
+            iterator.next();
+        }
+    }
+
+    default void forEachEdge(Vertex<N, D> vertex, Consumer<? super Edge<N, D, W>> action) {
+        var iterator = edgeIterator(vertex);
+        while (iterator.hasSet()) {
+            action.accept(iterator.get());
+            iterator.next();
+        }
+    }
+
+    // Stream views for bulk and parallel processing; implementations split them evenly over their storage,
+    // so .parallel() spreads the work across the common fork-join pool. The graph must not change meanwhile.
+    default Stream<Vertex<N, D>> vertices() {
+        return GraphStreams.fromCursor(vertexIterator());
+    }
+
+    default Stream<Edge<N, D, W>> edges() {
+        return GraphStreams.fromCursor(edgeIterator());
+    }
+
+    // Minimum spanning tree from the first vertex, re-rooted so that no path holds more than maxHeight vertices
+    default List<Edge<N, D, W>> findSpanningTreeWithHeightLimit(int maxHeight) {
+        return HeightLimitedSpanningTree.find(this, maxHeight);
+    }
+
+    // Immutable CSR copy for read-heavy traversals; later mutations of this graph are not reflected in it
+    default CsrGraph<N, D, W> freeze() {
+        return CsrGraph.of(this);
+    }
 }
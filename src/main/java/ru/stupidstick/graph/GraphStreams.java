@@ -0,0 +1,138 @@
+package ru.stupidstick.graph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Stream views over graph storage. Row-shaped storage (adjacency lists, matrix rows) is split at row
+// boundaries by element count, not by row count, so a few heavy rows do not end up in one task.
+final class GraphStreams {
+
+    private GraphStreams() {
+    }
+
+    // Elements of a row are addressed by a row-local position; positions may have gaps, as in a matrix row
+    interface Rows<T> {
+
+        // the first occupied position of the row at or after position, -1 when there is none
+        int next(int row, int position);
+
+        T get(int row, int position);
+    }
+
+    static <T> Stream<T> byRows(int rowCount, IntToLongFunction rowSize, Rows<T> rows) {
+        long[] prefix = new long[rowCount + 1];
+        for (int row = 0; row < rowCount; row++) {
+            prefix[row + 1] = prefix[row] + rowSize.applyAsLong(row);
+        }
+        return StreamSupport.stream(new RowSpliterator<>(rows, prefix, 0, rowCount), false);
+    }
+
+    // Fallback for graphs with only a cursor: the JDK splits it into growing batches, which still parallelizes
+    static <T> Stream<T> fromCursor(Iterator<T> cursor) {
+        java.util.Iterator<T> iterator = new java.util.Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasSet();
+            }
+
+            @Override
+            public T next() {
+                if (!cursor.hasSet()) {
+                    throw new NoSuchElementException();
+                }
+                T value = cursor.get();
+                cursor.next();
+                return value;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static final class RowSpliterator<T> implements Spliterator<T> {
+
+        private final Rows<T> rows;
+
+        // prefix[i] is the number of elements in rows [0, i)
+        private final long[] prefix;
+
+        private final int endRow;
+
+        private int row;
+
+        private int position;
+
+        private int consumed;
+
+        RowSpliterator(Rows<T> rows, long[] prefix, int row, int endRow) {
+            this.rows = rows;
+            this.prefix = prefix;
+            this.row = row;
+            this.endRow = endRow;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (row < endRow) {
+                int found = rows.next(row, position);
+                if (found >= 0) {
+                    position = found + 1;
+                    consumed++;
+                    action.accept(rows.get(row, found));
+                    return true;
+                }
+                nextRow();
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; row < endRow; nextRow()) {
+                for (int found = rows.next(row, position); found >= 0; found = rows.next(row, found + 1)) {
+                    action.accept(rows.get(row, found));
+                }
+            }
+        }
+
+        // Hands off the rows from the current one up to the row that halves the remaining elements
+        @Override
+        public Spliterator<T> trySplit() {
+            if (endRow - row < 2) {
+                return null;
+            }
+            long target = (prefix[row] + consumed + prefix[endRow]) >>> 1;
+            int found = Arrays.binarySearch(prefix, row + 1, endRow, target);
+            int middle = Math.min(Math.max(found >= 0 ? found : -found - 1, row + 1), endRow - 1);
+
+            RowSpliterator<T> head = new RowSpliterator<>(rows, prefix, row, middle);
+            head.position = position;
+            head.consumed = consumed;
+            row = middle;
+            position = 0;
+            consumed = 0;
+            return head;
+        }
+
+        @Override
+        public long estimateSize() {
+            return row < endRow ? prefix[endRow] - prefix[row] - consumed : 0;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+        private void nextRow() {
+            row++;
+            position = 0;
+            consumed = 0;
+        }
+    }
+}
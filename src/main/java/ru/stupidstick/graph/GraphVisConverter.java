@@ -0,0 +1,50 @@
+package ru.stupidstick.graph;
+
+import ru.stupidstick.fx.graph.VisEdge;
+import ru.stupidstick.fx.graph.VisGraph;
+import ru.stupidstick.fx.graph.VisNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Builds a VisGraph from the public Graph API, for implementations without their own conversion
+public final class GraphVisConverter {
+
+    private GraphVisConverter() {
+    }
+
+    public static <N, D, W extends Comparable<W>> VisGraph toVisGraph(Graph<N, D, W> graph) {
+        Map<Vertex<N, D>, VisNode> nodes = new HashMap<>();
+        List<VisNode> nodeList = new ArrayList<>();
+        var vertexIterator = graph.vertexIterator();
+        while (vertexIterator.hasSet()) {
+            var vertex = vertexIterator.get();
+            VisNode node = new VisNode(nodeList.size(), vertex.toString());
+            nodes.put(vertex, node);
+            nodeList.add(node);
+            vertexIterator.next();
+        }
+
+        String arrows = graph.isDirected() ? "to" : "";
+        List<VisEdge> visEdges = new ArrayList<>();
+        Set<Edge<N, D, W>> converted = Collections.newSetFromMap(new IdentityHashMap<>());
+        var edgeIterator = graph.edgeIterator();
+        while (edgeIterator.hasSet()) {
+            var edge = edgeIterator.get();
+            if (graph.isDirected() || converted.add(edge)) {
+                visEdges.add(new VisEdge(nodes.get(edge.getFrom()), nodes.get(edge.getTo()), arrows, edge.toString()));
+            }
+            edgeIterator.next();
+        }
+
+        VisGraph visGraph = new VisGraph();
+        visGraph.addNodes(nodeList.toArray(VisNode[]::new));
+        visGraph.addEdges(visEdges.toArray(VisEdge[]::new));
+        return visGraph;
+    }
+}
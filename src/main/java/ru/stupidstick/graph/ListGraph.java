@@ -1,62 +1,164 @@
 package ru.stupidstick.graph;
 
-import ru.stupidstick.fx.graph.VisEdge;
 import ru.stupidstick.fx.graph.VisGraph;
-import ru.stupidstick.fx.graph.VisNode;
+import ru.stupidstick.fx.graph.VisGraphDelta;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class ListGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W> {
 
-    private static final Random random = new Random();
-
     private final boolean isDirected;
 
-    private final Map<Vertex<N, D>, List<Edge<N, D, W>>> vertices = new LinkedHashMap<>();
+    private Map<Vertex<N, D>, Adjacency<N, D, W>> vertices;
+
+    // Incoming edges of every vertex of a directed graph, null unless requested. An undirected graph needs
+    // no index: every edge already sits in the lists of both its endpoints.
+    private Map<Vertex<N, D>, Adjacency<N, D, W>> incoming;
+
+    private int vertexCapacity;
+
+    // Initial array size of new adjacency lists, from the edge count given to ensureCapacity
+    private int expectedDegree;
+
+    // Rendering state, created by the first toVisGraph or visDelta call and kept up to date from then on
+    private VisGraphCache<N, D, W> visCache;
 
     public ListGraph(boolean isDirected) {
+        this(isDirected, 16, false);
+    }
+
+    public ListGraph(boolean isDirected, int expectedVertexCount) {
+        this(isDirected, expectedVertexCount, false);
+    }
+
+    // With indexIncoming a directed graph also keeps its incoming edges per vertex: removeVertex touches only
+    // the neighbours and inEdgeIterator/inDegree work, at the cost of a second list entry per edge
+    public ListGraph(boolean isDirected, int expectedVertexCount, boolean indexIncoming) {
         this.isDirected = isDirected;
+        this.vertices = new LinkedHashMap<>((int) (expectedVertexCount / 0.75f) + 1);
+        this.incoming = isDirected && indexIncoming ? new HashMap<>((int) (expectedVertexCount / 0.75f) + 1) : null;
+        this.vertexCapacity = expectedVertexCount;
     }
 
     public ListGraph(MatrixGraph<N, D, W> matrixGraph) {
         this.isDirected = matrixGraph.isDirected();
-        var vertexIterator = matrixGraph.vertexIterator();
-        while (vertexIterator.hasSet()) {
-            var vertex = vertexIterator.get();
-            var edgeIterator = matrixGraph.edgeIterator(vertex);
-            List<Edge<N, D, W>> edges = new ArrayList<>();
-            while (edgeIterator.hasSet()) {
-                edges.add(edgeIterator.get());
-                edgeIterator.next();
-            }
+        this.vertices = new LinkedHashMap<>();
+        this.incoming = null;
+        matrixGraph.forEachVertex(vertex -> {
+            Adjacency<N, D, W> edges = new Adjacency<>(vertex);
+            matrixGraph.forEachEdge(vertex, edges::add);
             vertices.put(vertex, edges);
-            vertexIterator.next();
-        }
+        });
     }
 
     @Override
     public Vertex<N, D> insertVertex(N name, D data) {
         Vertex<N, D> vertex = new Vertex<>(name, data);
-        vertices.put(vertex, new ArrayList<>());
+        vertices.put(vertex, new Adjacency<>(vertex, expectedDegree));
+        if (incoming != null) {
+            incoming.put(vertex, new Adjacency<>(vertex, expectedDegree));
+        }
+        if (visCache != null) {
+            visCache.vertexInserted(vertex);
+        }
         return vertex;
     }
 
+    @Override
+    public void ensureCapacity(int vertexCount, long edgeCount) {
+        if (vertexCount > vertexCapacity) {
+            // the maps cannot grow in place, so move the entries into larger maps; growing at least twofold
+            // keeps a run of batch inserts from copying every vertex each time
+            vertexCapacity = (int) Math.max(vertexCount, Math.min(Integer.MAX_VALUE - 8, 2L * vertexCapacity));
+            var grown = new LinkedHashMap<Vertex<N, D>, Adjacency<N, D, W>>((int) (vertexCapacity / 0.75f) + 1);
+            grown.putAll(vertices);
+            vertices = grown;
+            if (incoming != null) {
+                var grownIncoming = new HashMap<Vertex<N, D>, Adjacency<N, D, W>>((int) (vertexCapacity / 0.75f) + 1);
+                grownIncoming.putAll(incoming);
+                incoming = grownIncoming;
+            }
+        }
+        // no edge count, as from insertVertices, leaves the degree given by an earlier call alone
+        if (vertexCount > 0 && edgeCount > 0) {
+            long listed = isDirected ? edgeCount : 2 * edgeCount;
+            expectedDegree = (int) Math.min(Adjacency.HASH_THRESHOLD, listed / vertexCount);
+        }
+    }
+
+    @Override
+    public void insertVertices(Collection<? extends Vertex<N, D>> batch) {
+        for (var vertex : batch) {
+            if (vertices.containsKey(vertex)) {
+                throw new IllegalArgumentException("Vertex already present");
+            }
+        }
+        ensureCapacity(vertices.size() + batch.size(), 0);
+        for (var vertex : batch) {
+            vertices.put(vertex, new Adjacency<>(vertex, expectedDegree));
+            if (incoming != null) {
+                incoming.put(vertex, new Adjacency<>(vertex, expectedDegree));
+            }
+            if (visCache != null) {
+                visCache.vertexInserted(vertex);
+            }
+        }
+    }
+
+    @Override
+    public void insertEdges(Collection<? extends Edge<N, D, W>> batch) {
+        for (var edge : batch) {
+            if (!vertices.containsKey(edge.getFrom()) || !vertices.containsKey(edge.getTo())) {
+                throw new IllegalArgumentException("Vertex not found");
+            }
+        }
+        for (var edge : batch) {
+            vertices.get(edge.getFrom()).add(edge);
+            if (!isDirected) {
+                vertices.get(edge.getTo()).add(edge);
+            } else if (incoming != null) {
+                incoming.get(edge.getTo()).add(edge);
+            }
+            if (visCache != null) {
+                visCache.edgeInserted(edge);
+            }
+        }
+    }
+
     @Override
     public boolean removeVertex(Vertex<N, D> vertex) {
-        if (!vertices.containsKey(vertex)) {
+        Adjacency<N, D, W> removed = vertices.remove(vertex);
+        if (removed == null) {
             return false;
         }
-        vertices.remove(vertex);
-        vertices.values()
-                .forEach(edges -> edges.removeIf(edge -> edge.getFrom().equals(vertex) || edge.getTo().equals(vertex)));
+        if (!isDirected) {
+            for (var edge : removed) {
+                var neighbour = edge.getFrom().equals(vertex) ? edge.getTo() : edge.getFrom();
+                if (!neighbour.equals(vertex)) {
+                    vertices.get(neighbour).removeEdge(edge);
+                }
+            }
+        } else if (incoming != null) {
+            for (var edge : removed) {
+                incoming.get(edge.getTo()).removeEdge(edge);
+            }
+            for (var edge : incoming.remove(vertex)) {
+                vertices.get(edge.getFrom()).removeEdge(edge);
+            }
+        } else {
+            vertices.values().forEach(edges -> edges.removeNeighbour(vertex));
+        }
+        if (visCache != null) {
+            visCache.vertexRemoved(vertex);
+        }
         return true;
     }
 
@@ -69,6 +171,11 @@ public class ListGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W>
         vertices.get(v1).add(edge);
         if (!isDirected) {
             vertices.get(v2).add(edge);
+        } else if (incoming != null) {
+            incoming.get(v2).add(edge);
+        }
+        if (visCache != null) {
+            visCache.edgeInserted(edge);
         }
         return edge;
     }
@@ -79,9 +186,14 @@ public class ListGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W>
             return false;
         }
 
-        vertices.get(v1).removeIf(edge -> edge.getTo().equals(v2));
+        vertices.get(v1).removeNeighbour(v2);
         if (!isDirected) {
-            vertices.get(v2).removeIf(edge -> edge.getTo().equals(v1));
+            vertices.get(v2).removeNeighbour(v1);
+        } else if (incoming != null) {
+            incoming.get(v2).removeNeighbour(v1);
+        }
+        if (visCache != null) {
+            visCache.edgesRemoved(v1, v2);
         }
         return true;
     }
@@ -91,44 +203,52 @@ public class ListGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W>
         if (!vertices.containsKey(v1) || !vertices.containsKey(v2)) {
             return Optional.empty();
         }
-        return vertices.get(v1).stream()
-                .filter(edge -> edge.getTo().equals(v2))
-                .findFirst();
+        return Optional.ofNullable(vertices.get(v1).find(v2));
     }
 
-    @Override
-    public VisGraph toVisGraph() {
-        Map<Vertex<?, ?>, VisNode> nodes = vertices.keySet()
-                .stream()
-                .collect(
-                        Collectors.toMap(
-                                vertex -> vertex,
-                                vertex -> new VisNode(random.nextInt(), vertex.toString())
-                        )
-                );
-        ArrayList<VisEdge> visEdges = new ArrayList<>();
-
-        Set<Edge<N, D, W>> converted = new LinkedHashSet<>();
+    // Edges ending at the vertex; for an undirected graph these are the edges of the vertex
+    public Iterator<Edge<N, D, W>> inEdgeIterator(Vertex<N, D> vertex) {
+        return new GraphIterator<>(incomingOf(vertex));
+    }
 
-        for (var edges : vertices.values()) {
-            for (var e : edges) {
-                if (!converted.contains(e)) {
-                    if (!isDirected) {
-                        visEdges.add(new VisEdge(nodes.get(e.getFrom()), nodes.get(e.getTo()), "", e.toString()));
-                    } else {
-                        visEdges.add(new VisEdge(nodes.get(e.getFrom()), nodes.get(e.getTo()), "to", e.toString()));
-                    }
-                    converted.add(e);
-                }
-            }
+    public int inDegree(Vertex<N, D> vertex) {
+        return incomingOf(vertex).size();
+    }
+
+    public int outDegree(Vertex<N, D> vertex) {
+        var edges = vertices.get(vertex);
+        if (edges == null) {
+            throw new IllegalArgumentException("Vertex not found");
         }
+        return edges.size();
+    }
 
+    private List<Edge<N, D, W>> incomingOf(Vertex<N, D> vertex) {
+        if (isDirected && incoming == null) {
+            throw new UnsupportedOperationException("Incoming edges are not indexed");
+        }
+        var edges = isDirected ? incoming.get(vertex) : vertices.get(vertex);
+        if (edges == null) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+        return edges;
+    }
 
-        VisGraph visGraph = new VisGraph();
-        visGraph.addNodes(nodes.values().toArray(VisNode[]::new));
-        visGraph.addEdges(visEdges.toArray(VisEdge[]::new));
+    @Override
+    public VisGraph toVisGraph() {
+        return visCache().toVisGraph();
+    }
 
-        return visGraph;
+    @Override
+    public VisGraphDelta visDelta() {
+        return visCache().drain();
+    }
+
+    private VisGraphCache<N, D, W> visCache() {
+        if (visCache == null) {
+            visCache = new VisGraphCache<>(this);
+        }
+        return visCache;
     }
 
     @Override
@@ -138,12 +258,12 @@ public class ListGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W>
 
     @Override
     public Iterator<Vertex<N, D>> vertexIterator() {
-        return new GraphIterator<>(new ArrayList<>(vertices.keySet()));
+        return new CursorIterator<>(vertices.keySet().iterator());
     }
 
     @Override
     public Iterator<Edge<N, D, W>> edgeIterator() {
-        return new GraphIterator<>(vertices.values().stream().flatMap(List::stream).toList());
+        return new AdjacencyIterator<>(vertices.values().iterator());
     }
 
     @Override
@@ -151,6 +271,48 @@ public class ListGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W>
         return new GraphIterator<>(vertices.get(vertex));
     }
 
+    @Override
+    public void forEachVertex(Consumer<? super Vertex<N, D>> action) {
+        vertices.keySet().forEach(action);
+    }
+
+    @Override
+    public void forEachEdge(Consumer<? super Edge<N, D, W>> action) {
+        for (var edges : vertices.values()) {
+            edges.forEach(action);
+        }
+    }
+
+    @Override
+    public void forEachEdge(Vertex<N, D> vertex, Consumer<? super Edge<N, D, W>> action) {
+        var edges = vertices.get(vertex);
+        if (edges != null) {
+            edges.forEach(action);
+        }
+    }
+
+    @Override
+    public Stream<Vertex<N, D>> vertices() {
+        return new ArrayList<>(vertices.keySet()).stream();
+    }
+
+    @Override
+    public Stream<Edge<N, D, W>> edges() {
+        @SuppressWarnings("unchecked")
+        List<Edge<N, D, W>>[] rows = vertices.values().toArray(List[]::new);
+        return GraphStreams.byRows(rows.length, row -> rows[row].size(), new GraphStreams.Rows<>() {
+            @Override
+            public int next(int row, int position) {
+                return position < rows[row].size() ? position : -1;
+            }
+
+            @Override
+            public Edge<N, D, W> get(int row, int position) {
+                return rows[row].get(position);
+            }
+        });
+    }
+
     public static class GraphIterator<T> implements Iterator<T> {
 
         private final List<T> list;
@@ -176,4 +338,69 @@ public class ListGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W>
             return list.get(index);
         }
     }
+
+    // Adapts a java.util.Iterator to the cursor protocol, walking the live collection without copying it
+    static class CursorIterator<T> implements Iterator<T> {
+
+        private final java.util.Iterator<T> iterator;
+        private T current;
+        private boolean hasCurrent;
+
+        CursorIterator(java.util.Iterator<T> iterator) {
+            this.iterator = iterator;
+            next();
+        }
+
+        @Override
+        public void next() {
+            hasCurrent = iterator.hasNext();
+            current = hasCurrent ? iterator.next() : null;
+        }
+
+        @Override
+        public boolean hasSet() {
+            return hasCurrent;
+        }
+
+        @Override
+        public T get() {
+            return current;
+        }
+    }
+
+    // Walks every adjacency list in place, skipping empty ones
+    private static class AdjacencyIterator<T> implements Iterator<T> {
+
+        private final java.util.Iterator<? extends List<T>> lists;
+        private List<T> list = List.of();
+        private int index;
+
+        AdjacencyIterator(java.util.Iterator<? extends List<T>> lists) {
+            this.lists = lists;
+            skipEmpty();
+        }
+
+        @Override
+        public void next() {
+            index++;
+            skipEmpty();
+        }
+
+        @Override
+        public boolean hasSet() {
+            return index < list.size();
+        }
+
+        @Override
+        public T get() {
+            return list.get(index);
+        }
+
+        private void skipEmpty() {
+            while (index >= list.size() && lists.hasNext()) {
+                list = lists.next();
+                index = 0;
+            }
+        }
+    }
 }
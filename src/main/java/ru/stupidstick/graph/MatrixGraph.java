@@ -1,106 +1,251 @@
 package ru.stupidstick.graph;
 
-import ru.stupidstick.fx.graph.VisEdge;
 import ru.stupidstick.fx.graph.VisGraph;
-import ru.stupidstick.fx.graph.VisNode;
+import ru.stupidstick.fx.graph.VisGraphDelta;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.Random;
-import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class MatrixGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W> {
 
+    // Below this many free slots removeVertex does not bother compacting
+    private static final int COMPACTION_MIN_SLOTS = 64;
+
     private final Edge<N, D, W> edgePlaceholder = new Edge<>(null, null);
 
     private final boolean isDirected;
 
-    private final List<List<Edge<N, D, W>>> edges = new ArrayList<>();
+    private final ArrayList<ArrayList<Edge<N, D, W>>> edges;
+
+    // Set bits mark the non-placeholder cells of each row, so scans skip empty cells a word at a time
+    private final ArrayList<BitSet> occupancy;
+
+    private final ArrayList<Vertex<N, D>> vertices;
+
+    private Map<Vertex<N, D>, Integer> indices;
 
-    private final List<Vertex<N, D>> vertices = new ArrayList<>();
+    private int vertexCapacity;
+
+    // Slots of removed vertices: their vertex is null and their row and column are empty, ready for reuse
+    private int[] freeSlots = new int[16];
+
+    private int freeCount;
+
+    // Rendering state, created by the first toVisGraph or visDelta call and kept up to date from then on
+    private VisGraphCache<N, D, W> visCache;
 
     public MatrixGraph(boolean isDirected) {
+        this(isDirected, 10);
+    }
+
+    public MatrixGraph(boolean isDirected, int expectedVertexCount) {
         this.isDirected = isDirected;
+        this.edges = new ArrayList<>(expectedVertexCount);
+        this.occupancy = new ArrayList<>(expectedVertexCount);
+        this.vertices = new ArrayList<>(expectedVertexCount);
+        this.indices = new HashMap<>((int) (expectedVertexCount / 0.75f) + 1);
+        this.vertexCapacity = expectedVertexCount;
     }
 
     public MatrixGraph(ListGraph<N, D, W> listGraph) {
-        this.isDirected = listGraph.isDirected();
-        var vertexIterator = listGraph.vertexIterator();
-        while (vertexIterator.hasSet()) {
-            var vertex = vertexIterator.get();
-            insertVertex(vertex);
-        }
-        var edgeIterator = listGraph.edgeIterator();
-        while (edgeIterator.hasSet()) {
-            var edge = edgeIterator.get();
-            insertEdge(edge);
-            edgeIterator.next();
-        }
+        this(listGraph.isDirected());
+        listGraph.forEachVertex(this::insertVertex);
+        listGraph.forEachEdge(this::insertEdge);
     }
 
     @Override
     public Vertex<N, D> insertVertex(N name, D data) {
         Vertex<N, D> vertex = new Vertex<>(name, data);
-        vertices.add(vertex);
+        insertVertex(vertex);
+        return vertex;
+    }
 
-        edges.forEach(row -> row.add(edgePlaceholder));
-        edges.add(new ArrayList<>(Collections.nCopies(vertices.size(), edgePlaceholder)));
+    // Every row is widened once for many insertions, instead of by one cell per inserted vertex. Capacity at
+    // least doubles, so a run of batch inserts does not copy every row and the index each time.
+    @Override
+    public void ensureCapacity(int vertexCount, long edgeCount) {
+        if (vertexCount <= vertexCapacity) {
+            return;
+        }
+        int capacity = (int) Math.max(vertexCount, Math.min(Integer.MAX_VALUE - 8, 2L * vertexCapacity));
+        vertexCapacity = capacity;
+        vertices.ensureCapacity(capacity);
+        edges.ensureCapacity(capacity);
+        occupancy.ensureCapacity(capacity);
+        edges.forEach(row -> row.ensureCapacity(capacity));
+        var grown = new HashMap<Vertex<N, D>, Integer>((int) (capacity / 0.75f) + 1);
+        grown.putAll(indices);
+        indices = grown;
+    }
 
-        return vertex;
+    // Free slots are filled first; then each existing row grows once by the rest of the batch,
+    // and each new row is allocated at its final size
+    @Override
+    public void insertVertices(Collection<? extends Vertex<N, D>> batch) {
+        for (var vertex : batch) {
+            if (indices.containsKey(vertex)) {
+                throw new IllegalArgumentException("Vertex already present");
+            }
+        }
+        var appended = new ArrayList<Vertex<N, D>>(Math.max(batch.size() - freeCount, 0));
+        for (var vertex : batch) {
+            if (freeCount > 0) {
+                reuseSlot(vertex);
+            } else {
+                appended.add(vertex);
+            }
+        }
+        int size = vertices.size() + appended.size();
+        ensureCapacity(size, 0);
+        var padding = Collections.nCopies(appended.size(), edgePlaceholder);
+        edges.forEach(row -> row.addAll(padding));
+        for (var vertex : appended) {
+            indices.put(vertex, vertices.size());
+            vertices.add(vertex);
+            var row = new ArrayList<Edge<N, D, W>>(Math.max(size, vertexCapacity));
+            row.addAll(Collections.nCopies(size, edgePlaceholder));
+            edges.add(row);
+            occupancy.add(new BitSet());
+        }
+        if (visCache != null) {
+            batch.forEach(visCache::vertexInserted);
+        }
     }
 
+    @Override
+    public void insertEdges(Collection<? extends Edge<N, D, W>> batch) {
+        for (var edge : batch) {
+            if (!indices.containsKey(edge.getFrom()) || !indices.containsKey(edge.getTo())) {
+                throw new IllegalArgumentException("Vertex not found");
+            }
+        }
+        batch.forEach(this::insertEdge);
+    }
+
+    // Leaves a tombstone: the slot's row and column are emptied and the slot is kept for the next insertion.
+    // O(V) for the column, O(degree) when undirected; compact() runs once half of the slots are free.
     @Override
     public boolean removeVertex(Vertex<N, D> vertex) {
-        int index = vertices.indexOf(vertex);
-        if (index == -1) {
+        Integer removed = indices.remove(vertex);
+        if (removed == null) {
             return false;
         }
+        int index = removed;
 
-        vertices.remove(index);
-        edges.remove(index);
-        edges.forEach(row -> row.remove(index));
+        BitSet row = occupancy.get(index);
+        for (int j = row.nextSetBit(0); j >= 0; j = row.nextSetBit(j + 1)) {
+            edges.get(index).set(j, edgePlaceholder);
+            if (!isDirected) {
+                clearCell(j, index);
+            }
+        }
+        row.clear();
+        if (isDirected) {
+            for (int i = 0; i < occupancy.size(); i++) {
+                if (occupancy.get(i).get(index)) {
+                    clearCell(i, index);
+                }
+            }
+        }
+        vertices.set(index, null);
+        if (visCache != null) {
+            visCache.vertexRemoved(vertex);
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = index;
 
+        if (freeCount > COMPACTION_MIN_SLOTS && freeCount * 2 > vertices.size()) {
+            compact();
+        }
         return true;
     }
 
+    // Drops the free slots, renumbering the remaining vertices in order. O(V^2), run on demand or
+    // automatically by removeVertex once half of the slots are free.
+    public void compact() {
+        if (freeCount == 0) {
+            return;
+        }
+        int[] renumbered = new int[vertices.size()];
+        int live = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            renumbered[i] = vertices.get(i) == null ? -1 : live++;
+        }
+
+        int capacity = Math.max(live, vertexCapacity);
+        var compactedEdges = new ArrayList<ArrayList<Edge<N, D, W>>>(capacity);
+        var compactedOccupancy = new ArrayList<BitSet>(capacity);
+        for (int i = 0; i < vertices.size(); i++) {
+            if (renumbered[i] == -1) {
+                continue;
+            }
+            var row = new ArrayList<Edge<N, D, W>>(capacity);
+            row.addAll(Collections.nCopies(live, edgePlaceholder));
+            BitSet occupied = new BitSet(live);
+            BitSet old = occupancy.get(i);
+            for (int j = old.nextSetBit(0); j >= 0; j = old.nextSetBit(j + 1)) {
+                row.set(renumbered[j], edges.get(i).get(j));
+                occupied.set(renumbered[j]);
+            }
+            compactedEdges.add(row);
+            compactedOccupancy.add(occupied);
+        }
+        vertices.removeIf(Objects::isNull);
+        edges.clear();
+        edges.addAll(compactedEdges);
+        occupancy.clear();
+        occupancy.addAll(compactedOccupancy);
+        for (int i = 0; i < vertices.size(); i++) {
+            indices.put(vertices.get(i), i);
+        }
+        freeCount = 0;
+    }
 
 
     @Override
     public Edge<N, D, W> insertEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
-        int i1 = vertices.indexOf(v1);
-        int i2 = vertices.indexOf(v2);
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
         if (i1 == -1 || i2 == -1) {
             throw new IllegalArgumentException("Vertex not found");
         }
 
         Edge<N, D, W> edge = new Edge<>(v1, v2);
-        edges.get(i1).set(i2, edge);
+        setCell(i1, i2, edge);
         if (!isDirected) {
-            edges.get(i2).set(i1, edge);
+            setCell(i2, i1, edge);
         }
+        edgeReplaced(edge);
 
         return edge;
     }
 
     @Override
     public boolean deleteEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
-        int i1 = vertices.indexOf(v1);
-        int i2 = vertices.indexOf(v2);
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
         if (i1 == -1 || i2 == -1) {
             return false;
         }
 
-        edges.get(i1).set(i2, edgePlaceholder);
+        clearCell(i1, i2);
         if (!isDirected) {
-            edges.get(i2).set(i1, edgePlaceholder);
+            clearCell(i2, i1);
+        }
+        if (visCache != null) {
+            visCache.edgesRemoved(v1, v2);
         }
 
         return true;
@@ -108,8 +253,8 @@ public class MatrixGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W
 
     @Override
     public Optional<Edge<N, D, W>> getEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
-        int i1 = vertices.indexOf(v1);
-        int i2 = vertices.indexOf(v2);
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
         if (i1 == -1 || i2 == -1) {
             return Optional.empty();
         }
@@ -120,36 +265,19 @@ public class MatrixGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W
 
     @Override
     public VisGraph toVisGraph() {
-        VisNode[] nodes = vertices.stream().map(vertex -> new VisNode(new Random().nextInt(), vertex.toString())).toArray(VisNode[]::new);
-        ArrayList<VisEdge> visEdges = new ArrayList<>();
-
-        for (int i = 0; i < edges.size(); i++) {
-            for (int j = 0; j < edges.get(i).size(); j++) {
-                if (j < i)
-                    continue;
-                var edge1 = edges.get(i).get(j);
-                var edge2 = edges.get(j).get(i);
-
-                if (!isDirected) {
-                    if (edge1 != edgePlaceholder) {
-                        visEdges.add(new VisEdge(nodes[i], nodes[j], "", edge1.toString()));
-                    }
-                } else {
-                    if (edge1 != edgePlaceholder) {
-                        visEdges.add(new VisEdge(nodes[i], nodes[j], "to", edge1.toString()));
-                    }
-                    if (edge2 != edgePlaceholder) {
-                        visEdges.add(new VisEdge(nodes[j], nodes[i], "to", edge2.toString()));
-                    }
-                }
-            }
-        }
+        return visCache().toVisGraph();
+    }
 
-        VisGraph visGraph = new VisGraph();
-        visGraph.addNodes(nodes);
-        visGraph.addEdges(visEdges.toArray(VisEdge[]::new));
+    @Override
+    public VisGraphDelta visDelta() {
+        return visCache().drain();
+    }
 
-        return visGraph;
+    private VisGraphCache<N, D, W> visCache() {
+        if (visCache == null) {
+            visCache = new VisGraphCache<>(this);
+        }
+        return visCache;
     }
 
     @Override
@@ -159,12 +287,57 @@ public class MatrixGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W
 
     @Override
     public Iterator<Edge<N, D, W>> edgeIterator() {
-        return new MatrixGraphIterator<>(edges.stream().flatMap(List::stream).toList());
+        return new OccupiedCellIterator(0, edges.size());
     }
 
     @Override
     public Iterator<Edge<N, D, W>> edgeIterator(Vertex<N, D> vertex) {
-        return new MatrixGraphIterator<>(edges.get(vertices.indexOf(vertex)));
+        int index = indexOf(vertex);
+        return new OccupiedCellIterator(index, index + 1);
+    }
+
+    @Override
+    public void forEachVertex(Consumer<? super Vertex<N, D>> action) {
+        for (var vertex : vertices) {
+            if (vertex != null) {
+                action.accept(vertex);
+            }
+        }
+    }
+
+    @Override
+    public void forEachEdge(Consumer<? super Edge<N, D, W>> action) {
+        for (int i = 0; i < edges.size(); i++) {
+            forEachEdge(i, action);
+        }
+    }
+
+    @Override
+    public void forEachEdge(Vertex<N, D> vertex, Consumer<? super Edge<N, D, W>> action) {
+        int index = indexOf(vertex);
+        if (index != -1) {
+            forEachEdge(index, action);
+        }
+    }
+
+    @Override
+    public Stream<Vertex<N, D>> vertices() {
+        return vertices.stream().filter(Objects::nonNull);
+    }
+
+    @Override
+    public Stream<Edge<N, D, W>> edges() {
+        return GraphStreams.byRows(edges.size(), row -> occupancy.get(row).cardinality(), new GraphStreams.Rows<>() {
+            @Override
+            public int next(int row, int position) {
+                return occupancy.get(row).nextSetBit(position);
+            }
+
+            @Override
+            public Edge<N, D, W> get(int row, int position) {
+                return edges.get(row).get(position);
+            }
+        });
     }
 
     @Override
@@ -172,151 +345,126 @@ public class MatrixGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W
         return isDirected;
     }
 
+    private int indexOf(Vertex<N, D> vertex) {
+        Integer index = indices.get(vertex);
+        return index == null ? -1 : index;
+    }
+
     private void insertVertex(Vertex<N, D> vertex) {
+        if (visCache != null) {
+            visCache.vertexInserted(vertex);
+        }
+        if (freeCount > 0) {
+            reuseSlot(vertex);
+            return;
+        }
+        indices.put(vertex, vertices.size());
         vertices.add(vertex);
 
         edges.forEach(row -> row.add(edgePlaceholder));
-        edges.add(new ArrayList<>(Collections.nCopies(vertices.size(), edgePlaceholder)));
+        var row = new ArrayList<Edge<N, D, W>>(Math.max(vertices.size(), vertexCapacity));
+        row.addAll(Collections.nCopies(vertices.size(), edgePlaceholder));
+        edges.add(row);
+        occupancy.add(new BitSet());
     }
 
-
     private void insertEdge(Edge<N, D, W> edge) {
-        int i1 = vertices.indexOf(edge.from);
-        int i2 = vertices.indexOf(edge.to);
+        int i1 = indexOf(edge.from);
+        int i2 = indexOf(edge.to);
         if (i1 == -1 || i2 == -1) {
             throw new IllegalArgumentException("Vertex not found");
         }
-        edges.get(i1).set(i2, edge);
+        setCell(i1, i2, edge);
         if (!isDirected) {
-            edges.get(i2).set(i1, edge);
+            setCell(i2, i1, edge);
         }
+        edgeReplaced(edge);
     }
 
-    // Method to find the minimum spanning tree with height limit
-    public List<Edge<N, D, W>> findSpanningTreeWithHeightLimit(int maxHeight) {
-        maxHeight--;
-        if (!isDirected) {
-            throw new UnsupportedOperationException("Only directed graphs are supported");
-        }
-
-        if (vertices.isEmpty()) {
-            return Collections.emptyList();
+    // A cell holds one edge, so the new edge takes the place of any earlier one between its endpoints
+    private void edgeReplaced(Edge<N, D, W> edge) {
+        if (visCache != null) {
+            visCache.edgesRemoved(edge.getFrom(), edge.getTo());
+            visCache.edgeInserted(edge);
         }
-
-        List<Edge<N, D, W>> spanningTree = new ArrayList<>();
-        Set<Vertex<N, D>> visited = new LinkedHashSet<>();
-        Queue<Edge<N, D, W>> pq = new LinkedList<>();
-
-        // Add all edges of the starting vertex to the priority queue
-        Vertex<N, D> startVertex = vertices.get(0);
-        visited.add(startVertex);
-        pq.addAll(getOutgoingEdges(startVertex));
-
-        // Prim's algorithm to create a minimum spanning tree
-        while (!pq.isEmpty() && spanningTree.size() < vertices.size() - 1) {
-            Edge<N, D, W> edge = pq.poll();
-            Vertex<N, D> to = edge.getTo();
-
-            if (visited.contains(to)) {
-                continue;
-            }
-
-            spanningTree.add(edge);
-            visited.add(to);
-            pq.addAll(getOutgoingEdges(to));
-        }
-
-        // Adjust tree to fit within the height limit
-        while (!isHeightWithinLimit(spanningTree, startVertex, maxHeight)) {
-            adjustHeight(spanningTree, startVertex, maxHeight);
-        }
-
-        return spanningTree;
     }
 
-    private List<Edge<N, D, W>> getOutgoingEdges(Vertex<N, D> vertex) {
-        List<Edge<N, D, W>> outgoingEdges = new ArrayList<>();
-        int index = vertices.indexOf(vertex);
-        for (int i = 0; i < vertices.size(); i++) {
-            Edge<N, D, W> edge = edges.get(index).get(i);
-            if (edge != edgePlaceholder) {
-                outgoingEdges.add(edge);
-            }
-        }
-        return outgoingEdges;
+    private void setCell(int row, int column, Edge<N, D, W> edge) {
+        edges.get(row).set(column, edge);
+        occupancy.get(row).set(column);
     }
 
-    private boolean isHeightWithinLimit(List<Edge<N, D, W>> spanningTree, Vertex<N, D> startVertex, int maxHeight) {
-        Map<Vertex<N, D>, List<Vertex<N, D>>> tree = buildTreeFromEdges(spanningTree);
-        return getHeight(tree, startVertex) <= maxHeight;
+    private void clearCell(int row, int column) {
+        edges.get(row).set(column, edgePlaceholder);
+        occupancy.get(row).clear(column);
     }
 
-    private Map<Vertex<N, D>, List<Vertex<N, D>>> buildTreeFromEdges(List<Edge<N, D, W>> edges) {
-        Map<Vertex<N, D>, List<Vertex<N, D>>> tree = new LinkedHashMap<>();
-        for (Edge<N, D, W> edge : edges) {
-            tree.computeIfAbsent(edge.getFrom(), k -> new ArrayList<>()).add(edge.getTo());
+    private void forEachEdge(int index, Consumer<? super Edge<N, D, W>> action) {
+        List<Edge<N, D, W>> row = edges.get(index);
+        BitSet occupied = occupancy.get(index);
+        for (int j = occupied.nextSetBit(0); j >= 0; j = occupied.nextSetBit(j + 1)) {
+            action.accept(row.get(j));
         }
-        return tree;
     }
 
-    private int getHeight(Map<Vertex<N, D>, List<Vertex<N, D>>> tree, Vertex<N, D> vertex) {
-        if (!tree.containsKey(vertex)) {
-            return 0;
-        }
-        int height = 0;
-        for (Vertex<N, D> child : tree.get(vertex)) {
-            height = Math.max(height, getHeight(tree, child) + 1);
-        }
-        return height;
+    private void reuseSlot(Vertex<N, D> vertex) {
+        int slot = freeSlots[--freeCount];
+        vertices.set(slot, vertex);
+        indices.put(vertex, slot);
     }
 
-    private List<Edge<N, D, W>> adjustHeight(List<Edge<N, D, W>> spanningTree, Vertex<N, D> startVertex, int maxHeight) {
-        Map<Vertex<N, D>, List<Vertex<N, D>>> tree = buildTreeFromEdges(spanningTree);
-        List<Edge<N, D, W>> additionalEdges = new ArrayList<>();
+    // Visits only occupied cells of rows [row, endRow)
+    private class OccupiedCellIterator implements Iterator<Edge<N, D, W>> {
 
-        Queue<Vertex<N, D>> queue = new LinkedList<>();
-        Map<Vertex<N, D>, Integer> depth = new LinkedHashMap<>();
-        queue.add(startVertex);
-        depth.put(startVertex, 0);
+        private final int endRow;
+        private int row;
+        private int column = -1;
 
-        while (!queue.isEmpty()) {
-            Vertex<N, D> current = queue.poll();
-            int currentDepth = depth.get(current);
-            if (currentDepth < maxHeight) {
-                for (Vertex<N, D> neighbor : tree.getOrDefault(current, Collections.emptyList())) {
-                    depth.put(neighbor, currentDepth + 1);
-                    queue.add(neighbor);
-                }
-            } else {
-                for (Vertex<N, D> neighbor : tree.getOrDefault(current, Collections.emptyList())) {
-                    Edge<N, D, W> newEdge = new Edge<>(startVertex, neighbor);
-                    var oldEdge = spanningTree.stream().filter(edge -> Objects.equals(edge.getFrom(), current) && Objects.equals(edge.getTo(), neighbor)).findFirst();
-                    oldEdge.ifPresent(spanningTree::remove);
-                    additionalEdges.add(newEdge);
+        OccupiedCellIterator(int row, int endRow) {
+            this.row = row;
+            this.endRow = endRow;
+            next();
+        }
+
+        @Override
+        public void next() {
+            while (row < endRow) {
+                column = occupancy.get(row).nextSetBit(column + 1);
+                if (column >= 0) {
+                    return;
                 }
+                row++;
+                column = -1;
             }
         }
 
-        spanningTree.addAll(additionalEdges);
-        return spanningTree;
-    }
+        @Override
+        public boolean hasSet() {
+            return row < endRow;
+        }
 
-    private Edge<N, D, W> findNewEdge(List<Edge<N, D, W>> spanningTree, Vertex<N, D> from, Vertex<N, D> to) {
-        return null;
+        @Override
+        public Edge<N, D, W> get() {
+            return edges.get(row).get(column);
+        }
     }
 
+    // Skips the null entries of free slots
     private static class MatrixGraphIterator<T> implements Iterator<T> {
 
         private final List<T> list;
-        private int index = 0;
+        private int index = -1;
 
         public MatrixGraphIterator(List<T> list) {
             this.list = list;
+            next();
         }
 
         @Override
         public void next() {
-            index++;
+            do {
+                index++;
+            } while (index < list.size() && list.get(index) == null);
         }
 
         @Override
@@ -0,0 +1,579 @@
+package ru.stupidstick.graph;
+
+import ru.stupidstick.fx.graph.VisGraph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Multi-version adjacency-list graph. Every vertex and edge carries the version that created it and the one
+// that deleted it; a mutation stamps the next version and then publishes it, so a reader pinned to a version
+// sees exactly the graph as it was then. snapshot() is O(1): it pins the current version and returns a
+// read-only view, which long readers (rendering, spanning trees) can walk while writers carry on.
+//
+// Deletion only stamps, nothing is moved, and an edge also disappears with either endpoint. Entries deleted at
+// or before the oldest pinned version are invisible to everyone and are reclaimed by reclaim(), which writers
+// also run once tombstones make up half of the entries. Writers serialize among themselves but never wait for
+// readers. Only the structure is versioned: names, data and weights set later show through to old versions.
+// Reads on the graph itself follow the latest version as they go; only a snapshot is isolated.
+public class VersionedGraph<N, D, W extends Comparable<W>> implements Graph<N, D, W> {
+
+    private static final long ALIVE = Long.MAX_VALUE;
+
+    private static final int RECLAIM_THRESHOLD = 1024;
+
+    private final boolean isDirected;
+
+    private final Object writeLock = new Object();
+
+    private final Map<Vertex<N, D>, VertexEntry<N, D, W>> entries = new ConcurrentHashMap<>();
+
+    // Pinned versions and how many open snapshots hold each
+    private final Map<Long, Integer> pins = new HashMap<>();
+
+    private volatile Log<VertexEntry<N, D, W>> vertexLog = Log.empty();
+
+    private volatile long version;
+
+    private int entryCount;
+
+    private int garbageCount;
+
+    public VersionedGraph(boolean isDirected) {
+        this.isDirected = isDirected;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    // Close the snapshot once done with it, so that versions it pinned can be reclaimed
+    public Snapshot snapshot() {
+        synchronized (pins) {
+            long pinned = version;
+            pins.merge(pinned, 1, Integer::sum);
+            return new Snapshot(pinned);
+        }
+    }
+
+    @Override
+    public Vertex<N, D> insertVertex(N name, D data) {
+        Vertex<N, D> vertex = new Vertex<>(name, data);
+        synchronized (writeLock) {
+            long next = version + 1;
+            VertexEntry<N, D, W> entry = new VertexEntry<>(vertex, next, null);
+            entries.put(vertex, entry);
+            vertexLog = vertexLog.with(entry);
+            entryCount++;
+            version = next;
+        }
+        return vertex;
+    }
+
+    // The whole batch becomes visible at once, as a single new version. A removed vertex may come back; it gets
+    // a new entry, and the old one stays for the versions before.
+    @Override
+    public void insertVertices(Collection<? extends Vertex<N, D>> batch) {
+        synchronized (writeLock) {
+            for (var vertex : batch) {
+                VertexEntry<N, D, W> existing = entries.get(vertex);
+                if (existing != null && existing.deleted == ALIVE) {
+                    throw new IllegalArgumentException("Vertex already present");
+                }
+            }
+            long next = version + 1;
+            for (var vertex : batch) {
+                VertexEntry<N, D, W> entry = new VertexEntry<>(vertex, next, entries.get(vertex));
+                entries.put(vertex, entry);
+                vertexLog = vertexLog.with(entry);
+            }
+            entryCount += batch.size();
+            version = next;
+        }
+    }
+
+    @Override
+    public void insertEdges(Collection<? extends Edge<N, D, W>> batch) {
+        synchronized (writeLock) {
+            for (var edge : batch) {
+                VertexEntry<N, D, W> from = entries.get(edge.getFrom());
+                VertexEntry<N, D, W> to = entries.get(edge.getTo());
+                if (from == null || to == null || from.deleted != ALIVE || to.deleted != ALIVE) {
+                    throw new IllegalArgumentException("Vertex not found");
+                }
+            }
+            long next = version + 1;
+            for (var edge : batch) {
+                append(edge, next);
+            }
+            entryCount += batch.size();
+            version = next;
+        }
+    }
+
+    @Override
+    public boolean removeVertex(Vertex<N, D> vertex) {
+        synchronized (writeLock) {
+            VertexEntry<N, D, W> entry = entries.get(vertex);
+            if (entry == null || entry.deleted != ALIVE) {
+                return false;
+            }
+            long next = version + 1;
+            entry.deleted = next;
+            garbageCount += 1 + entry.out.size;
+            version = next;
+            reclaimIfWorthwhile();
+            return true;
+        }
+    }
+
+    @Override
+    public Edge<N, D, W> insertEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        synchronized (writeLock) {
+            VertexEntry<N, D, W> from = entries.get(v1);
+            VertexEntry<N, D, W> to = entries.get(v2);
+            if (from == null || to == null || from.deleted != ALIVE || to.deleted != ALIVE) {
+                throw new IllegalArgumentException("Vertex not found");
+            }
+            long next = version + 1;
+            Edge<N, D, W> edge = append(new Edge<>(v1, v2), next);
+            entryCount++;
+            version = next;
+            return edge;
+        }
+    }
+
+    private Edge<N, D, W> append(Edge<N, D, W> edge, long created) {
+        VertexEntry<N, D, W> from = entries.get(edge.getFrom());
+        VertexEntry<N, D, W> to = entries.get(edge.getTo());
+        EdgeEntry<N, D, W> entry = new EdgeEntry<>(edge, from, to, created);
+        from.out = from.out.with(entry);
+        if (!isDirected) {
+            to.out = to.out.with(entry);
+        }
+        return edge;
+    }
+
+    @Override
+    public boolean deleteEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        synchronized (writeLock) {
+            VertexEntry<N, D, W> from = entries.get(v1);
+            VertexEntry<N, D, W> to = entries.get(v2);
+            if (from == null || !from.isVisible(version) || to == null || !to.isVisible(version)) {
+                return false;
+            }
+            long current = version;
+            long next = current + 1;
+            Log<EdgeEntry<N, D, W>> out = from.out;
+            for (int i = 0; i < out.size; i++) {
+                EdgeEntry<N, D, W> edge = out.get(i);
+                if (edge.isVisible(current) && edge.neighbourOf(v1) == v2) {
+                    edge.deleted = next;
+                    garbageCount++;
+                }
+            }
+            version = next;
+            reclaimIfWorthwhile();
+            return true;
+        }
+    }
+
+    @Override
+    public Optional<Edge<N, D, W>> getEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+        return getEdge(version, v1, v2);
+    }
+
+    @Override
+    public VisGraph toVisGraph() {
+        try (Snapshot snapshot = snapshot()) {
+            return snapshot.toVisGraph();
+        }
+    }
+
+    @Override
+    public Iterator<Vertex<N, D>> vertexIterator() {
+        return vertexIterator(version);
+    }
+
+    @Override
+    public Iterator<Edge<N, D, W>> edgeIterator() {
+        return edgeIterator(version);
+    }
+
+    @Override
+    public Iterator<Edge<N, D, W>> edgeIterator(Vertex<N, D> vertex) {
+        return edgeIterator(version, vertex);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    // Drops every entry that no pinned version and no later one can see
+    public void reclaim() {
+        synchronized (writeLock) {
+            long floor;
+            synchronized (pins) {
+                floor = version;
+                for (long pinned : pins.keySet()) {
+                    floor = Math.min(floor, pinned);
+                }
+            }
+            long horizon = floor;
+            Predicate<VertexEntry<N, D, W>> keepVertex = entry -> entry.deleted > horizon;
+            Predicate<EdgeEntry<N, D, W>> keepEdge = edge -> edge.deleted > horizon
+                    && edge.from.deleted > horizon && edge.to.deleted > horizon;
+
+            int kept = 0;
+            int garbage = 0;
+            Log<VertexEntry<N, D, W>> vertices = vertexLog;
+            for (int i = 0; i < vertices.size; i++) {
+                VertexEntry<N, D, W> entry = vertices.get(i);
+                if (!keepVertex.test(entry)) {
+                    // a vertex inserted again keeps its newer entry
+                    entries.remove(entry.vertex, entry);
+                    continue;
+                }
+                // earlier lives of a vertex end before later ones, so the rest of the chain goes as well
+                if (entry.previous != null && !keepVertex.test(entry.previous)) {
+                    entry.previous = null;
+                }
+                entry.out = entry.out.retain(keepEdge);
+                kept++;
+                garbage += entry.deleted == ALIVE ? 0 : 1;
+                for (int k = 0; k < entry.out.size; k++) {
+                    EdgeEntry<N, D, W> edge = entry.out.get(k);
+                    // an undirected edge is listed twice, count it in the row of its source only
+                    if (isDirected || edge.from == entry) {
+                        kept++;
+                        garbage += edge.isVisible(version) ? 0 : 1;
+                    }
+                }
+            }
+            vertexLog = vertices.retain(keepVertex);
+            entryCount = kept;
+            garbageCount = garbage;
+        }
+    }
+
+    private void reclaimIfWorthwhile() {
+        if (garbageCount > RECLAIM_THRESHOLD && garbageCount * 2 > entryCount) {
+            reclaim();
+        }
+    }
+
+    private void release(long pinned) {
+        synchronized (pins) {
+            pins.computeIfPresent(pinned, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    // The entry of the vertex as of version `at`: a vertex removed and inserted again has one per life
+    private VertexEntry<N, D, W> entryAt(Vertex<N, D> vertex, long at) {
+        VertexEntry<N, D, W> entry = entries.get(vertex);
+        while (entry != null && entry.created > at) {
+            entry = entry.previous;
+        }
+        return entry;
+    }
+
+    private Optional<Edge<N, D, W>> getEdge(long at, Vertex<N, D> v1, Vertex<N, D> v2) {
+        VertexEntry<N, D, W> from = entryAt(v1, at);
+        if (from == null || !from.isVisible(at)) {
+            return Optional.empty();
+        }
+        Log<EdgeEntry<N, D, W>> out = from.out;
+        for (int i = 0; i < out.size; i++) {
+            EdgeEntry<N, D, W> edge = out.get(i);
+            if (edge.neighbourOf(v1) == v2 && edge.isVisible(at)) {
+                return Optional.of(edge.edge);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Iterator<Vertex<N, D>> vertexIterator(long at) {
+        return new VisibleIterator<>(vertexLog, entry -> entry.isVisible(at), entry -> entry.vertex);
+    }
+
+    private Iterator<Edge<N, D, W>> edgeIterator(long at) {
+        return new EdgeLogIterator(vertexLog, at);
+    }
+
+    private Iterator<Edge<N, D, W>> edgeIterator(long at, Vertex<N, D> vertex) {
+        VertexEntry<N, D, W> entry = entryAt(vertex, at);
+        if (entry == null || !entry.isVisible(at)) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+        return new VisibleIterator<>(entry.out, edge -> edge.isVisible(at), edge -> edge.edge);
+    }
+
+    // A read-only view of the graph pinned to one version
+    public final class Snapshot implements Graph<N, D, W>, AutoCloseable {
+
+        private final long version;
+
+        private boolean closed;
+
+        private Snapshot(long version) {
+            this.version = version;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        @Override
+        public Vertex<N, D> insertVertex(N name, D data) {
+            throw new UnsupportedOperationException("Snapshot is read-only");
+        }
+
+        @Override
+        public boolean removeVertex(Vertex<N, D> vertex) {
+            throw new UnsupportedOperationException("Snapshot is read-only");
+        }
+
+        @Override
+        public Edge<N, D, W> insertEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+            throw new UnsupportedOperationException("Snapshot is read-only");
+        }
+
+        @Override
+        public boolean deleteEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+            throw new UnsupportedOperationException("Snapshot is read-only");
+        }
+
+        @Override
+        public Optional<Edge<N, D, W>> getEdge(Vertex<N, D> v1, Vertex<N, D> v2) {
+            return VersionedGraph.this.getEdge(version, v1, v2);
+        }
+
+        @Override
+        public VisGraph toVisGraph() {
+            return GraphVisConverter.toVisGraph(this);
+        }
+
+        @Override
+        public Iterator<Vertex<N, D>> vertexIterator() {
+            return VersionedGraph.this.vertexIterator(version);
+        }
+
+        @Override
+        public Iterator<Edge<N, D, W>> edgeIterator() {
+            return VersionedGraph.this.edgeIterator(version);
+        }
+
+        @Override
+        public Iterator<Edge<N, D, W>> edgeIterator(Vertex<N, D> vertex) {
+            return VersionedGraph.this.edgeIterator(version, vertex);
+        }
+
+        @Override
+        public boolean isDirected() {
+            return isDirected;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(version);
+        }
+    }
+
+    private static final class VertexEntry<N, D, W extends Comparable<W>> {
+
+        private final Vertex<N, D> vertex;
+
+        private final long created;
+
+        private volatile long deleted = ALIVE;
+
+        // outgoing edges, and incoming ones too when undirected; written only under the write lock
+        private volatile Log<EdgeEntry<N, D, W>> out = Log.empty();
+
+        // the entry of the same vertex before it was removed and inserted again, until reclaimed
+        private volatile VertexEntry<N, D, W> previous;
+
+        VertexEntry(Vertex<N, D> vertex, long created, VertexEntry<N, D, W> previous) {
+            this.vertex = vertex;
+            this.created = created;
+            this.previous = previous;
+        }
+
+        boolean isVisible(long at) {
+            return created <= at && deleted > at;
+        }
+    }
+
+    private static final class EdgeEntry<N, D, W extends Comparable<W>> {
+
+        private final Edge<N, D, W> edge;
+
+        private final VertexEntry<N, D, W> from;
+
+        private final VertexEntry<N, D, W> to;
+
+        private final long created;
+
+        private volatile long deleted = ALIVE;
+
+        EdgeEntry(Edge<N, D, W> edge, VertexEntry<N, D, W> from, VertexEntry<N, D, W> to, long created) {
+            this.edge = edge;
+            this.from = from;
+            this.to = to;
+            this.created = created;
+        }
+
+        boolean isVisible(long at) {
+            return created <= at && deleted > at && from.isVisible(at) && to.isVisible(at);
+        }
+
+        Vertex<N, D> neighbourOf(Vertex<N, D> vertex) {
+            return from.vertex == vertex ? to.vertex : from.vertex;
+        }
+    }
+
+    // Append-only (array, size) pair: slots below size are never written again, so a reader holding a log
+    // sees a fixed list while the writer appends past it or publishes a compacted copy
+    private static final class Log<T> {
+
+        private static final Log<?> EMPTY = new Log<>(new Object[0], 0);
+
+        private final Object[] items;
+
+        private final int size;
+
+        private Log(Object[] items, int size) {
+            this.items = items;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Log<T> empty() {
+            return (Log<T>) EMPTY;
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            return (T) items[index];
+        }
+
+        Log<T> with(T item) {
+            Object[] array = size < items.length ? items : Arrays.copyOf(items, Math.max(4, size + (size >> 1)));
+            array[size] = item;
+            return new Log<>(array, size + 1);
+        }
+
+        Log<T> retain(Predicate<? super T> keep) {
+            Object[] kept = new Object[size];
+            int keptSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (keep.test(get(i))) {
+                    kept[keptSize++] = items[i];
+                }
+            }
+            return keptSize == size ? this : new Log<>(kept, keptSize);
+        }
+    }
+
+    private static class VisibleIterator<T, R> implements Iterator<R> {
+
+        private final Log<T> log;
+
+        private final Predicate<T> visible;
+
+        private final Function<T, R> value;
+
+        private int index = -1;
+
+        VisibleIterator(Log<T> log, Predicate<T> visible, Function<T, R> value) {
+            this.log = log;
+            this.visible = visible;
+            this.value = value;
+            next();
+        }
+
+        @Override
+        public void next() {
+            do {
+                index++;
+            } while (index < log.size && !visible.test(log.get(index)));
+        }
+
+        @Override
+        public boolean hasSet() {
+            return index < log.size;
+        }
+
+        @Override
+        public R get() {
+            return value.apply(log.get(index));
+        }
+    }
+
+    // Visible edges of every visible vertex, in vertex order
+    private class EdgeLogIterator implements Iterator<Edge<N, D, W>> {
+
+        private final Log<VertexEntry<N, D, W>> vertices;
+
+        private final long at;
+
+        private int vertex = -1;
+
+        private Log<EdgeEntry<N, D, W>> edges = Log.empty();
+
+        private int index;
+
+        EdgeLogIterator(Log<VertexEntry<N, D, W>> vertices, long at) {
+            this.vertices = vertices;
+            this.at = at;
+            advance();
+        }
+
+        @Override
+        public void next() {
+            index++;
+            advance();
+        }
+
+        @Override
+        public boolean hasSet() {
+            return index < edges.size;
+        }
+
+        @Override
+        public Edge<N, D, W> get() {
+            return edges.get(index).edge;
+        }
+
+        private void advance() {
+            while (true) {
+                while (index < edges.size) {
+                    if (edges.get(index).isVisible(at)) {
+                        return;
+                    }
+                    index++;
+                }
+                do {
+                    vertex++;
+                } while (vertex < vertices.size && !vertices.get(vertex).isVisible(at));
+                if (vertex >= vertices.size) {
+                    return;
+                }
+                edges = vertices.get(vertex).out;
+                index = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package ru.stupidstick.graph;
+
+import ru.stupidstick.fx.graph.VisEdge;
+import ru.stupidstick.fx.graph.VisGraph;
+import ru.stupidstick.fx.graph.VisGraphDelta;
+import ru.stupidstick.fx.graph.VisNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Rendering state of one graph: the VisNode and VisEdge built for each vertex and edge, and the changes not
+// yet drained. Ids are handed out in order and kept for the element's lifetime, so they never collide and
+// a vertex renders with the same id every time. The graph reports its mutations here, and a delta then
+// costs as much as the change rather than the graph. Labels are read when an element is drained or when
+// the whole graph is converted.
+final class VisGraphCache<N, D, W extends Comparable<W>> {
+
+    private final boolean isDirected;
+
+    private final Map<Vertex<N, D>, Node> nodes = new LinkedHashMap<>();
+
+    private final Map<Edge<N, D, W>, VisEdge> edges = new LinkedHashMap<>();
+
+    private long nextNodeId;
+
+    private long nextEdgeId;
+
+    // Changes since the last drain; an element added and removed in between shows up in neither
+    private final Set<Vertex<N, D>> addedVertices = new LinkedHashSet<>();
+
+    private final Set<Edge<N, D, W>> addedEdges = new LinkedHashSet<>();
+
+    private final List<VisNode> removedNodes = new ArrayList<>();
+
+    private final List<VisEdge> removedEdges = new ArrayList<>();
+
+    // Takes the current graph as its starting point: the first drain reports all of it as added
+    VisGraphCache(Graph<N, D, W> graph) {
+        this.isDirected = graph.isDirected();
+        graph.forEachVertex(this::vertexInserted);
+        graph.forEachEdge(this::edgeInserted);
+    }
+
+    void vertexInserted(Vertex<N, D> vertex) {
+        nodes.put(vertex, new Node(new VisNode(nextNodeId++, null)));
+        addedVertices.add(vertex);
+    }
+
+    // Drops the vertex together with its edges
+    void vertexRemoved(Vertex<N, D> vertex) {
+        Node node = nodes.get(vertex);
+        if (node == null) {
+            return;
+        }
+        new ArrayList<>(node.edges).forEach(this::edgeRemoved);
+        nodes.remove(vertex);
+        if (!addedVertices.remove(vertex)) {
+            removedNodes.add(node.visNode);
+        }
+    }
+
+    // An undirected edge is listed by both its endpoints; it is recorded once
+    void edgeInserted(Edge<N, D, W> edge) {
+        if (edges.containsKey(edge)) {
+            return;
+        }
+        Node from = nodes.get(edge.getFrom());
+        Node to = nodes.get(edge.getTo());
+        edges.put(edge, new VisEdge(nextEdgeId++, from.visNode, to.visNode, isDirected ? "to" : "", null));
+        from.edges.add(edge);
+        to.edges.add(edge);
+        addedEdges.add(edge);
+    }
+
+    // Drops the edges from v1 to v2, in either direction when undirected
+    void edgesRemoved(Vertex<N, D> v1, Vertex<N, D> v2) {
+        Node node = nodes.get(v1);
+        if (node == null) {
+            return;
+        }
+        List<Edge<N, D, W>> removed = new ArrayList<>();
+        for (var edge : node.edges) {
+            boolean forward = edge.getFrom() == v1 && edge.getTo() == v2;
+            if (forward || !isDirected && edge.getFrom() == v2 && edge.getTo() == v1) {
+                removed.add(edge);
+            }
+        }
+        removed.forEach(this::edgeRemoved);
+    }
+
+    // Everything added or removed since the previous drain or conversion
+    VisGraphDelta drain() {
+        VisGraphDelta delta = new VisGraphDelta();
+        removedEdges.forEach(delta::removeEdge);
+        removedNodes.forEach(delta::removeNode);
+        for (var vertex : addedVertices) {
+            delta.addNode(label(vertex));
+        }
+        for (var edge : addedEdges) {
+            delta.addEdge(label(edge));
+        }
+        clearChanges();
+        return delta;
+    }
+
+    // The whole graph with fresh labels; it also serves as the base for the next drain
+    VisGraph toVisGraph() {
+        VisNode[] visNodes = new VisNode[nodes.size()];
+        int i = 0;
+        for (var vertex : nodes.keySet()) {
+            visNodes[i++] = label(vertex);
+        }
+        VisEdge[] visEdges = new VisEdge[edges.size()];
+        i = 0;
+        for (var edge : edges.keySet()) {
+            visEdges[i++] = label(edge);
+        }
+        clearChanges();
+
+        VisGraph visGraph = new VisGraph();
+        visGraph.addNodes(visNodes);
+        visGraph.addEdges(visEdges);
+        return visGraph;
+    }
+
+    private void edgeRemoved(Edge<N, D, W> edge) {
+        VisEdge visEdge = edges.remove(edge);
+        nodes.get(edge.getFrom()).edges.remove(edge);
+        nodes.get(edge.getTo()).edges.remove(edge);
+        if (!addedEdges.remove(edge)) {
+            removedEdges.add(visEdge);
+        }
+    }
+
+    private VisNode label(Vertex<N, D> vertex) {
+        VisNode visNode = nodes.get(vertex).visNode;
+        visNode.setLabel(vertex.toString());
+        return visNode;
+    }
+
+    private VisEdge label(Edge<N, D, W> edge) {
+        VisEdge visEdge = edges.get(edge);
+        visEdge.setLabel(edge.toString());
+        return visEdge;
+    }
+
+    private void clearChanges() {
+        addedVertices.clear();
+        addedEdges.clear();
+        removedNodes.clear();
+        removedEdges.clear();
+    }
+
+    private final class Node {
+
+        private final VisNode visNode;
+
+        // Incident edges, so removing the vertex does not scan the whole graph
+        private final Set<Edge<N, D, W>> edges = new LinkedHashSet<>();
+
+        Node(VisNode visNode) {
+            this.visNode = visNode;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package ru.stupidstick.graph.algorithm;
+
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.Graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+// Component decomposition over any Graph, computed on its CSR snapshot. Every method returns one label per
+// vertex, in the vertex order of graph.freeze() (a CsrGraph is its own snapshot), numbered from 0 without
+// gaps. All traversals are iterative, so depth is limited by memory only.
+public final class Components {
+
+    // Rows per task of the parallel union-find
+    private static final int CHUNK_SIZE = 4096;
+
+    private Components() {
+    }
+
+    // Number of components in a labelling returned by this class
+    public static int count(int[] labels) {
+        int count = 0;
+        for (int label : labels) {
+            count = Math.max(count, label + 1);
+        }
+        return count;
+    }
+
+    // Strongly connected components by Tarjan's algorithm, in one pass. Labels come out in reverse
+    // topological order of the condensation: no edge leads from a component to one with a higher label.
+    public static <N, D, W extends Comparable<W>> int[] tarjan(Graph<N, D, W> graph) {
+        CsrGraph<N, D, W> csr = graph.freeze();
+        int vertexCount = csr.vertexCount();
+        int[] index = new int[vertexCount];
+        int[] low = new int[vertexCount];
+        int[] component = new int[vertexCount];
+        int[] stack = new int[vertexCount];
+        int[] callVertex = new int[vertexCount];
+        int[] callEdge = new int[vertexCount];
+        Arrays.fill(index, -1);
+        Arrays.fill(component, -1);
+        int nextIndex = 0;
+        int stackSize = 0;
+        int componentCount = 0;
+
+        for (int root = 0; root < vertexCount; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int depth = 0;
+            callVertex[0] = root;
+            callEdge[0] = csr.firstEdge(root);
+            index[root] = low[root] = nextIndex++;
+            stack[stackSize++] = root;
+            while (depth >= 0) {
+                int v = callVertex[depth];
+                if (callEdge[depth] < csr.endEdge(v)) {
+                    int w = csr.target(callEdge[depth]++);
+                    if (index[w] == -1) {
+                        index[w] = low[w] = nextIndex++;
+                        stack[stackSize++] = w;
+                        depth++;
+                        callVertex[depth] = w;
+                        callEdge[depth] = csr.firstEdge(w);
+                    } else if (component[w] == -1) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--stackSize];
+                        component[w] = componentCount;
+                    } while (w != v);
+                    componentCount++;
+                }
+                depth--;
+                if (depth >= 0) {
+                    int parent = callVertex[depth];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+            }
+        }
+        return component;
+    }
+
+    // Strongly connected components by Kosaraju's algorithm: finishing order on the graph, then a second
+    // search on the reversed edges. Labels come out in topological order of the condensation, the reverse
+    // of tarjan, at the cost of building the transpose.
+    public static <N, D, W extends Comparable<W>> int[] kosaraju(Graph<N, D, W> graph) {
+        CsrGraph<N, D, W> csr = graph.freeze();
+        int vertexCount = csr.vertexCount();
+
+        // vertices in the order their depth-first search finished
+        int[] finished = new int[vertexCount];
+        int finishedCount = 0;
+        boolean[] visited = new boolean[vertexCount];
+        int[] callVertex = new int[vertexCount];
+        int[] callEdge = new int[vertexCount];
+        for (int root = 0; root < vertexCount; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            int depth = 0;
+            callVertex[0] = root;
+            callEdge[0] = csr.firstEdge(root);
+            visited[root] = true;
+            while (depth >= 0) {
+                int v = callVertex[depth];
+                if (callEdge[depth] < csr.endEdge(v)) {
+                    int w = csr.target(callEdge[depth]++);
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        depth++;
+                        callVertex[depth] = w;
+                        callEdge[depth] = csr.firstEdge(w);
+                    }
+                    continue;
+                }
+                finished[finishedCount++] = v;
+                depth--;
+            }
+        }
+
+        // incoming edges of every vertex, in CSR form
+        int[] start = new int[vertexCount + 1];
+        for (int k = 0; k < csr.edgeCount(); k++) {
+            start[csr.target(k) + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] sources = new int[csr.edgeCount()];
+        int[] fill = Arrays.copyOf(start, vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            for (int k = csr.firstEdge(v); k < csr.endEdge(v); k++) {
+                sources[fill[csr.target(k)]++] = v;
+            }
+        }
+
+        // whatever reaches a root backwards, and is not taken yet, shares its component
+        int[] component = new int[vertexCount];
+        Arrays.fill(component, -1);
+        int[] stack = callVertex;
+        int componentCount = 0;
+        for (int i = vertexCount - 1; i >= 0; i--) {
+            int root = finished[i];
+            if (component[root] != -1) {
+                continue;
+            }
+            int stackSize = 0;
+            stack[stackSize++] = root;
+            component[root] = componentCount;
+            while (stackSize > 0) {
+                int v = stack[--stackSize];
+                for (int k = start[v]; k < start[v + 1]; k++) {
+                    int u = sources[k];
+                    if (component[u] == -1) {
+                        component[u] = componentCount;
+                        stack[stackSize++] = u;
+                    }
+                }
+            }
+            componentCount++;
+        }
+        return component;
+    }
+
+    // Connected components, ignoring edge direction, so a directed graph gets its weakly connected ones.
+    // Edges are merged in parallel into a lock-free union-find; labels are numbered in order of the first
+    // vertex of each component.
+    public static <N, D, W extends Comparable<W>> int[] connected(Graph<N, D, W> graph) {
+        CsrGraph<N, D, W> csr = graph.freeze();
+        int vertexCount = csr.vertexCount();
+        ConcurrentUnionFind sets = new ConcurrentUnionFind(vertexCount);
+        int chunks = (vertexCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int end = Math.min(vertexCount, (chunk + 1) * CHUNK_SIZE);
+            for (int v = chunk * CHUNK_SIZE; v < end; v++) {
+                for (int k = csr.firstEdge(v); k < csr.endEdge(v); k++) {
+                    sets.union(v, csr.target(k));
+                }
+            }
+        });
+
+        // a root is the lowest vertex of its set, so it is labelled before any other member
+        int[] component = new int[vertexCount];
+        int componentCount = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            int root = sets.find(v);
+            component[v] = root == v ? componentCount++ : component[root];
+        }
+        return component;
+    }
+
+    // Disjoint sets shared between threads. A root is only ever linked below a lower id, with a compare-and-set
+    // on its own parent slot, so the forest cannot form a cycle and no lock is needed; finds halve their path
+    // with compare-and-sets that may fail harmlessly.
+    private static final class ConcurrentUnionFind {
+
+        private final AtomicIntegerArray parent;
+
+        ConcurrentUnionFind(int count) {
+            parent = new AtomicIntegerArray(count);
+            for (int i = 0; i < count; i++) {
+                parent.set(i, i);
+            }
+        }
+
+        int find(int id) {
+            while (true) {
+                int next = parent.get(id);
+                if (next == id) {
+                    return id;
+                }
+                int skip = parent.get(next);
+                if (skip != next) {
+                    parent.compareAndSet(id, next, skip);
+                }
+                id = next;
+            }
+        }
+
+        void union(int a, int b) {
+            while (true) {
+                a = find(a);
+                b = find(b);
+                if (a == b) {
+                    return;
+                }
+                if (a < b) {
+                    int swap = a;
+                    a = b;
+                    b = swap;
+                }
+                // fails only when another thread linked a first; retry from the new roots
+                if (parent.compareAndSet(a, a, b)) {
+                    return;
+                }
+            }
+        }
+    }
+}
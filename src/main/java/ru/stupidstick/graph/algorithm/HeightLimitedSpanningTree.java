@@ -0,0 +1,81 @@
+package ru.stupidstick.graph.algorithm;
+
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Spanning tree of a directed graph whose height does not exceed a limit. The minimum spanning tree grown
+// from the first vertex is walked once breadth-first; a vertex that would end up deeper than the limit is
+// re-attached directly to the root by a new edge, and its subtree continues from depth 1.
+public final class HeightLimitedSpanningTree {
+
+    private HeightLimitedSpanningTree() {
+    }
+
+    // maxHeight counts the vertices on the longest root-to-leaf path, so a tree of height 2 is a star
+    public static <N, D, W extends Comparable<W>> List<Edge<N, D, W>> find(Graph<N, D, W> graph, int maxHeight) {
+        if (!graph.isDirected()) {
+            throw new UnsupportedOperationException("Only directed graphs are supported");
+        }
+        int maxDepth = maxHeight - 1;
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Height limit must be at least 2");
+        }
+        CsrGraph<N, D, W> csr = graph.freeze();
+        if (csr.vertexCount() == 0) {
+            return Collections.emptyList();
+        }
+
+        int root = 0;
+        List<Edge<N, D, W>> spanningTree = MinimumSpanningTree.prim(csr, csr.vertex(root));
+
+        int vertexCount = csr.vertexCount();
+        int[] firstChild = new int[vertexCount];
+        int[] nextSibling = new int[vertexCount];
+        int[] treeEdge = new int[vertexCount];
+        Arrays.fill(firstChild, -1);
+        for (int i = 0; i < spanningTree.size(); i++) {
+            Edge<N, D, W> edge = spanningTree.get(i);
+            int parent = csr.indexOf(edge.getFrom());
+            int child = csr.indexOf(edge.getTo());
+            nextSibling[child] = firstChild[parent];
+            firstChild[parent] = child;
+            treeEdge[child] = i;
+        }
+
+        List<Edge<N, D, W>> result = new ArrayList<>(spanningTree.size());
+        List<Edge<N, D, W>> reattached = new ArrayList<>();
+        boolean[] moved = new boolean[spanningTree.size()];
+        int[] depth = new int[vertexCount];
+        int[] queue = new int[vertexCount];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = root;
+        while (head < tail) {
+            int current = queue[head++];
+            for (int child = firstChild[current]; child != -1; child = nextSibling[child]) {
+                if (depth[current] < maxDepth) {
+                    depth[child] = depth[current] + 1;
+                } else {
+                    depth[child] = 1;
+                    moved[treeEdge[child]] = true;
+                    reattached.add(new Edge<>(csr.vertex(root), csr.vertex(child)));
+                }
+                queue[tail++] = child;
+            }
+        }
+
+        for (int i = 0; i < spanningTree.size(); i++) {
+            if (!moved[i]) {
+                result.add(spanningTree.get(i));
+            }
+        }
+        result.addAll(reattached);
+        return result;
+    }
+}
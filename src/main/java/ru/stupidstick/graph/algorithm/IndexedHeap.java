@@ -0,0 +1,93 @@
+package ru.stupidstick.graph.algorithm;
+
+import java.util.Arrays;
+
+// 4-ary min-heap of dense ids in [0, capacity). Priorities live outside the heap: after lowering
+// the priority of a queued id, call decreaseKey to restore the heap order
+final class IndexedHeap {
+
+    private static final int ARITY = 4;
+
+    private final int[] heap;
+
+    private final int[] position;
+
+    private final IntComparator order;
+
+    private int size;
+
+    IndexedHeap(int capacity, IntComparator order) {
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.order = order;
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int id) {
+        return position[id] != -1;
+    }
+
+    void add(int id) {
+        heap[size] = id;
+        position[id] = size;
+        siftUp(size++);
+    }
+
+    void decreaseKey(int id) {
+        siftUp(position[id]);
+    }
+
+    int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / ARITY;
+            if (order.compare(id, heap[parent]) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        while (true) {
+            int first = index * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            int smallest = first;
+            for (int child = first + 1; child < Math.min(first + ARITY, size); child++) {
+                if (order.compare(heap[child], heap[smallest]) < 0) {
+                    smallest = child;
+                }
+            }
+            if (order.compare(heap[smallest], id) >= 0) {
+                break;
+            }
+            heap[index] = heap[smallest];
+            position[heap[index]] = index;
+            index = smallest;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+}
@@ -0,0 +1,8 @@
+package ru.stupidstick.graph.algorithm;
+
+// Orders dense ids by data kept outside the heap or array being ordered
+@FunctionalInterface
+interface IntComparator {
+
+    int compare(int a, int b);
+}
@@ -0,0 +1,93 @@
+package ru.stupidstick.graph.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Stable merge sort of int ids by an external order, forked over the common pool for large inputs
+final class IntSorter {
+
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private IntSorter() {
+    }
+
+    static void parallelSort(int[] ids, IntComparator order) {
+        int[] buffer = new int[ids.length];
+        if (ids.length <= PARALLEL_THRESHOLD) {
+            sort(ids, buffer, 0, ids.length, order);
+        } else {
+            ForkJoinPool.commonPool().invoke(new SortTask(ids, buffer, 0, ids.length, order));
+        }
+    }
+
+    private static void sort(int[] ids, int[] buffer, int from, int to, IntComparator order) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int id = ids[i];
+                int j = i - 1;
+                while (j >= from && order.compare(ids[j], id) > 0) {
+                    ids[j + 1] = ids[j];
+                    j--;
+                }
+                ids[j + 1] = id;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sort(ids, buffer, from, middle, order);
+        sort(ids, buffer, middle, to, order);
+        merge(ids, buffer, from, middle, to, order);
+    }
+
+    private static void merge(int[] ids, int[] buffer, int from, int middle, int to, IntComparator order) {
+        if (order.compare(ids[middle - 1], ids[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(ids, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < middle && order.compare(buffer[left], buffer[right]) <= 0) {
+                ids[i] = buffer[left++];
+            } else {
+                ids[i] = buffer[right++];
+            }
+        }
+    }
+
+    private static final class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] ids;
+
+        private final int[] buffer;
+
+        private final int from;
+
+        private final int to;
+
+        private final IntComparator order;
+
+        SortTask(int[] ids, int[] buffer, int from, int to, IntComparator order) {
+            this.ids = ids;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.order = order;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                sort(ids, buffer, from, to, order);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(ids, buffer, from, middle, order), new SortTask(ids, buffer, middle, to, order));
+            merge(ids, buffer, from, middle, to, order);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package ru.stupidstick.graph.algorithm;
+
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Minimum spanning trees over any Graph, computed on its CSR snapshot. Edges compare by weight,
+// numeric weights without boxing, missing weights after all present ones.
+public final class MinimumSpanningTree {
+
+    private MinimumSpanningTree() {
+    }
+
+    // Prim's algorithm from every vertex not yet reached, giving a spanning forest.
+    // On a directed graph the trees grow along outgoing edges only.
+    public static <N, D, W extends Comparable<W>> List<Edge<N, D, W>> prim(Graph<N, D, W> graph) {
+        CsrGraph<N, D, W> csr = graph.freeze();
+        Prim<N, D, W> prim = new Prim<>(csr);
+        for (int root = 0; root < csr.vertexCount(); root++) {
+            prim.grow(root);
+        }
+        return prim.tree;
+    }
+
+    // Prim's algorithm from a single root, spanning the vertices reachable from it
+    public static <N, D, W extends Comparable<W>> List<Edge<N, D, W>> prim(Graph<N, D, W> graph, Vertex<N, D> root) {
+        CsrGraph<N, D, W> csr = graph.freeze();
+        int index = csr.indexOf(root);
+        if (index == -1) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+        Prim<N, D, W> prim = new Prim<>(csr);
+        prim.grow(index);
+        return prim.tree;
+    }
+
+    // Kruskal's algorithm: candidate edges sorted in parallel, cycles rejected through union-find
+    public static <N, D, W extends Comparable<W>> List<Edge<N, D, W>> kruskal(Graph<N, D, W> graph) {
+        if (graph.isDirected()) {
+            throw new UnsupportedOperationException("Kruskal's algorithm requires an undirected graph");
+        }
+        CsrGraph<N, D, W> csr = graph.freeze();
+        int vertexCount = csr.vertexCount();
+
+        // every undirected edge is listed in both endpoint rows, keep the copy in the lower row
+        int[] candidates = new int[csr.edgeCount() / 2 + 1];
+        int[] sources = new int[csr.edgeCount()];
+        int count = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            for (int k = csr.firstEdge(v); k < csr.endEdge(v); k++) {
+                sources[k] = v;
+                if (v < csr.target(k)) {
+                    if (count == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, count * 2);
+                    }
+                    candidates[count++] = k;
+                }
+            }
+        }
+        candidates = Arrays.copyOf(candidates, count);
+        IntSorter.parallelSort(candidates, (a, b) -> compareWeights(csr, a, b));
+
+        UnionFind sets = new UnionFind(vertexCount);
+        List<Edge<N, D, W>> tree = new ArrayList<>(Math.max(vertexCount - 1, 0));
+        for (int i = 0; i < count && tree.size() < vertexCount - 1; i++) {
+            int k = candidates[i];
+            if (sets.union(sources[k], csr.target(k))) {
+                tree.add(csr.edge(k));
+            }
+        }
+        return tree;
+    }
+
+    static <N, D, W extends Comparable<W>> int compareWeights(CsrGraph<N, D, W> csr, int e1, int e2) {
+        double w1 = csr.weight(e1);
+        double w2 = csr.weight(e2);
+        if (!Double.isNaN(w1) && !Double.isNaN(w2)) {
+            return Double.compare(w1, w2);
+        }
+        W o1 = csr.edge(e1).getWeight();
+        W o2 = csr.edge(e2).getWeight();
+        if (o1 == null || o2 == null) {
+            return o1 == null ? (o2 == null ? 0 : 1) : -1;
+        }
+        return o1.compareTo(o2);
+    }
+
+    private static final class Prim<N, D, W extends Comparable<W>> {
+
+        private final CsrGraph<N, D, W> csr;
+
+        private final boolean[] inTree;
+
+        // cheapest known edge into each vertex outside the tree, -1 while none is known
+        private final int[] bestEdge;
+
+        private final IndexedHeap heap;
+
+        private final List<Edge<N, D, W>> tree;
+
+        Prim(CsrGraph<N, D, W> csr) {
+            this.csr = csr;
+            this.inTree = new boolean[csr.vertexCount()];
+            this.bestEdge = new int[csr.vertexCount()];
+            this.heap = new IndexedHeap(csr.vertexCount(), (a, b) -> compareWeights(csr, bestEdge[a], bestEdge[b]));
+            this.tree = new ArrayList<>(Math.max(csr.vertexCount() - 1, 0));
+            Arrays.fill(bestEdge, -1);
+        }
+
+        void grow(int root) {
+            if (inTree[root]) {
+                return;
+            }
+            inTree[root] = true;
+            relax(root);
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                inTree[vertex] = true;
+                tree.add(csr.edge(bestEdge[vertex]));
+                relax(vertex);
+            }
+        }
+
+        private void relax(int vertex) {
+            for (int k = csr.firstEdge(vertex); k < csr.endEdge(vertex); k++) {
+                int target = csr.target(k);
+                if (inTree[target]) {
+                    continue;
+                }
+                if (bestEdge[target] == -1) {
+                    bestEdge[target] = k;
+                    heap.add(target);
+                } else if (compareWeights(csr, k, bestEdge[target]) < 0) {
+                    bestEdge[target] = k;
+                    heap.decreaseKey(target);
+                }
+            }
+        }
+    }
+}
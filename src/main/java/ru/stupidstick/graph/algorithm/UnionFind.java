@@ -0,0 +1,43 @@
+package ru.stupidstick.graph.algorithm;
+
+// Disjoint sets over dense ids with union by size and path halving
+final class UnionFind {
+
+    private final int[] parent;
+
+    private final int[] size;
+
+    UnionFind(int count) {
+        parent = new int[count];
+        size = new int[count];
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+    }
+
+    int find(int id) {
+        while (parent[id] != id) {
+            parent[id] = parent[parent[id]];
+            id = parent[id];
+        }
+        return id;
+    }
+
+    // Returns false when both ids were already in the same set
+    boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package ru.stupidstick.graph.generator;
+
+import java.util.SplittableRandom;
+
+// Preferential attachment: vertex v > 0 brings m edges to earlier vertices, chosen in proportion to their
+// degree. Sequentially this means picking a random endpoint of all edges so far; here the endpoint picked by
+// edge i is a hash of the seed and i, so any edge can be resolved on its own: an even position is the known
+// source of an earlier edge, an odd one the target of an earlier edge, resolved the same way. Chunks are
+// ranges of edges and need no shared state, so the SplittableRandom of the chunk goes unused.
+// A pick of the edge's own source is redrawn a few times and then dropped; repeated edges are kept.
+final class BarabasiAlbert extends GraphGenerator {
+
+    private static final int ATTEMPTS = 8;
+
+    private final int vertexCount;
+
+    private final int edgesPerVertex;
+
+    private final long salt;
+
+    BarabasiAlbert(int vertexCount, int edgesPerVertex, long seed) {
+        super(seed);
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Vertex count must not be negative");
+        }
+        if (edgesPerVertex < 1) {
+            throw new IllegalArgumentException("Edges per vertex must be positive");
+        }
+        this.vertexCount = vertexCount;
+        this.edgesPerVertex = edgesPerVertex;
+        this.salt = new SplittableRandom(seed).nextLong();
+    }
+
+    @Override
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public long edgeCount() {
+        return Math.max(0, (long) (vertexCount - 1) * edgesPerVertex);
+    }
+
+    @Override
+    int chunkCount() {
+        return (int) ((edgeCount() + CHUNK_EDGES - 1) / CHUNK_EDGES);
+    }
+
+    @Override
+    void generate(int chunk, SplittableRandom random, EdgeChunk edges) {
+        long end = Math.min(edgeCount(), (long) (chunk + 1) * CHUNK_EDGES);
+        for (long edge = (long) chunk * CHUNK_EDGES; edge < end; edge++) {
+            int source = source(edge);
+            for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                int target = target(edge, attempt);
+                if (target != source) {
+                    edges.add(source, target);
+                    break;
+                }
+            }
+        }
+    }
+
+    private int source(long edge) {
+        return (int) (1 + edge / edgesPerVertex);
+    }
+
+    // Follows odd positions back until one lands on a source; the first edge can only point at vertex 0
+    private int target(long edge, int attempt) {
+        if (edge == 0) {
+            return 0;
+        }
+        long position = pick(edge, attempt);
+        while ((position & 1) == 1) {
+            long earlier = position >>> 1;
+            if (earlier == 0) {
+                return 0;
+            }
+            position = pick(earlier, 0);
+        }
+        return source(position >>> 1);
+    }
+
+    // A position among the 2 * edge endpoints before this edge, fixed by the seed
+    private long pick(long edge, int attempt) {
+        long hash = mix(salt + edge * ATTEMPTS + attempt);
+        return (hash >>> 1) % (2 * edge);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
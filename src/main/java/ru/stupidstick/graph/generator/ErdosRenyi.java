@@ -0,0 +1,95 @@
+package ru.stupidstick.graph.generator;
+
+import java.util.SplittableRandom;
+
+// G(n, p): every candidate pair becomes an edge with probability p, independently. Candidates are either
+// all ordered pairs of distinct vertices or, for undirected graphs and DAGs, only the pairs from a lower
+// to a higher index. A row is walked with geometric skips between the chosen pairs, so the cost follows
+// the number of edges rather than n^2. Chunks are ranges of rows holding about the same number of pairs.
+final class ErdosRenyi extends GraphGenerator {
+
+    private final int vertexCount;
+
+    private final double probability;
+
+    private final boolean allPairs;
+
+    // First row of every chunk, and the end row last
+    private final int[] rowStart;
+
+    ErdosRenyi(int vertexCount, double probability, boolean allPairs, long seed) {
+        super(seed);
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Vertex count must not be negative");
+        }
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("Probability must be within [0, 1]");
+        }
+        this.vertexCount = vertexCount;
+        this.probability = probability;
+        this.allPairs = allPairs;
+
+        long pairs = 0;
+        for (int row = 0; row < vertexCount; row++) {
+            pairs += candidates(row);
+        }
+        int chunks = (int) Math.max(1, Math.min(vertexCount, Math.ceil(pairs * probability / CHUNK_EDGES)));
+        rowStart = new int[chunks + 1];
+        long seen = 0;
+        int chunk = 1;
+        for (int row = 0; row < vertexCount && chunk < chunks; row++) {
+            seen += candidates(row);
+            if (seen >= pairs / chunks * chunk) {
+                rowStart[chunk++] = row + 1;
+            }
+        }
+        while (chunk <= chunks) {
+            rowStart[chunk++] = vertexCount;
+        }
+    }
+
+    private long candidates(int row) {
+        return allPairs ? vertexCount - 1 : vertexCount - 1 - row;
+    }
+
+    @Override
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public long edgeCount() {
+        long pairs = allPairs ? (long) vertexCount * (vertexCount - 1) : (long) vertexCount * (vertexCount - 1) / 2;
+        return Math.round(pairs * probability);
+    }
+
+    @Override
+    int chunkCount() {
+        return rowStart.length - 1;
+    }
+
+    @Override
+    void generate(int chunk, SplittableRandom random, EdgeChunk edges) {
+        if (probability == 0) {
+            return;
+        }
+        double logMiss = Math.log1p(-probability);
+        for (int row = rowStart[chunk]; row < rowStart[chunk + 1]; row++) {
+            long count = candidates(row);
+            long k = -1;
+            while (true) {
+                // number of pairs skipped before the next hit, geometrically distributed
+                k += probability == 1 ? 1 : 1 + (long) (Math.log(1 - random.nextDouble()) / logMiss);
+                if (k >= count || k < 0) {
+                    break;
+                }
+                int column = (int) k;
+                if (allPairs) {
+                    edges.add(row, column < row ? column : column + 1);
+                } else {
+                    edges.add(row, row + 1 + column);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.stupidstick.graph.generator;
+
+// Synthetic graphs for load tests. The same arguments and seed always give the same graph, whether it is
+// loaded into a Graph or written to disk.
+public final class Generators {
+
+    // Graph500 quadrant probabilities
+    private static final double RMAT_A = 0.57;
+    private static final double RMAT_B = 0.19;
+    private static final double RMAT_C = 0.19;
+
+    private Generators() {
+    }
+
+    // Each pair becomes an edge with the given probability: ordered pairs when directed, otherwise each
+    // unordered pair once
+    public static GraphGenerator erdosRenyi(int vertexCount, double probability, boolean directed, long seed) {
+        return new ErdosRenyi(vertexCount, probability, directed, seed);
+    }
+
+    // Edges only lead from lower to higher indices, so the vertex order is a topological order
+    public static GraphGenerator randomDag(int vertexCount, double probability, long seed) {
+        return new ErdosRenyi(vertexCount, probability, false, seed);
+    }
+
+    // Scale-free: every vertex after the first attaches edgesPerVertex edges to earlier ones
+    public static GraphGenerator barabasiAlbert(int vertexCount, int edgesPerVertex, long seed) {
+        return new BarabasiAlbert(vertexCount, edgesPerVertex, seed);
+    }
+
+    // 2^scale vertices and edgeFactor times as many edges, with Graph500 skew
+    public static GraphGenerator rmat(int scale, int edgeFactor, long seed) {
+        return new RMat(scale, edgeFactor, RMAT_A, RMAT_B, RMAT_C, seed);
+    }
+
+    public static GraphGenerator rmat(int scale, int edgeFactor, double a, double b, double c, long seed) {
+        return new RMat(scale, edgeFactor, a, b, c, seed);
+    }
+
+    public static GraphGenerator grid(int rows, int columns) {
+        return new Grid(rows, columns);
+    }
+}
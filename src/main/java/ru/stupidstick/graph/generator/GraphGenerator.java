@@ -0,0 +1,191 @@
+package ru.stupidstick.graph.generator;
+
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.Vertex;
+import ru.stupidstick.graph.io.ChunkPipeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// A seeded graph model, made by Generators. Vertices are numbered from 0 and edges are produced in chunks,
+// each drawing from its own SplittableRandom split off the seed in chunk order, so a seed gives the same
+// graph whatever the number of threads and whichever sink it goes to. Chunks are generated in parallel and
+// handed over in chunk order on the calling thread, through a ChunkPipeline.
+public abstract class GraphGenerator {
+
+    // Edges per chunk, roughly, for the random models
+    static final int CHUNK_EDGES = 1 << 16;
+
+    private final long seed;
+
+    private final int threads = Runtime.getRuntime().availableProcessors();
+
+    GraphGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public abstract int vertexCount();
+
+    // Exact for the grid, expected for the random models; sizes the graph before loading
+    public abstract long edgeCount();
+
+    abstract int chunkCount();
+
+    abstract void generate(int chunk, SplittableRandom random, EdgeChunk edges);
+
+    // Vertices named by their index, with the same string as data
+    public <W extends Comparable<W>> Graph<String, String, W> populate(Graph<String, String, W> graph) {
+        return populate(graph, index -> {
+            String name = String.valueOf(index);
+            return new Vertex<>(name, name);
+        });
+    }
+
+    // Loads the graph through the batch API; the edges carry no weight or data
+    public <N, D, W extends Comparable<W>> Graph<N, D, W> populate(Graph<N, D, W> graph,
+                                                                   IntFunction<Vertex<N, D>> vertexFactory) {
+        graph.ensureCapacity(vertexCount(), edgeCount());
+        @SuppressWarnings("unchecked")
+        Vertex<N, D>[] vertices = (Vertex<N, D>[]) new Vertex<?, ?>[vertexCount()];
+        Arrays.parallelSetAll(vertices, vertexFactory::apply);
+        graph.insertVertices(Arrays.asList(vertices));
+
+        try {
+            run(chunkCount(), (chunk, random) -> {
+                EdgeChunk edges = new EdgeChunk();
+                generate(chunk, random, edges);
+                List<Edge<N, D, W>> batch = new ArrayList<>(edges.size);
+                for (int k = 0; k < edges.size; k++) {
+                    batch.add(new Edge<>(vertices[edges.from[k]], vertices[edges.to[k]]));
+                }
+                return batch;
+            }, graph::insertEdges);
+        } catch (IOException e) {
+            // only an interrupt gets here, nothing is read or written
+            throw new UncheckedIOException(e);
+        }
+        return graph;
+    }
+
+    // "source target" lines for EdgeListImporter in EDGE_LIST format, vertices named by their index.
+    // Every vertex is listed first on a line of its own, so isolated vertices and the vertex order survive.
+    public void writeEdgeList(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            int vertexCount = vertexCount();
+            run((vertexCount + CHUNK_EDGES - 1) / CHUNK_EDGES, (chunk, random) -> {
+                LineBuffer lines = new LineBuffer();
+                int end = (int) Math.min(vertexCount, (long) (chunk + 1) * CHUNK_EDGES);
+                for (int v = chunk * CHUNK_EDGES; v < end; v++) {
+                    lines.append(v).newLine();
+                }
+                return lines;
+            }, lines -> lines.writeTo(channel));
+            run(chunkCount(), (chunk, random) -> {
+                EdgeChunk edges = new EdgeChunk();
+                generate(chunk, random, edges);
+                LineBuffer lines = new LineBuffer();
+                for (int k = 0; k < edges.size; k++) {
+                    lines.append(edges.from[k]).space().append(edges.to[k]).newLine();
+                }
+                return lines;
+            }, lines -> lines.writeTo(channel));
+        }
+    }
+
+    private <T> void run(int chunkCount, ChunkTask<T> task, ChunkPipeline.Sink<T> sink) throws IOException {
+        SplittableRandom root = new SplittableRandom(seed);
+        try (ChunkPipeline<T> pipeline = new ChunkPipeline<>(threads, sink)) {
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int index = chunk;
+                SplittableRandom random = root.split();
+                pipeline.submit(() -> task.run(index, random));
+            }
+            pipeline.finish();
+        }
+    }
+
+    private interface ChunkTask<T> {
+        T run(int chunk, SplittableRandom random);
+    }
+
+    // The edges of one chunk as pairs of vertex indices
+    static final class EdgeChunk {
+
+        private int[] from = new int[256];
+
+        private int[] to = new int[256];
+
+        private int size;
+
+        void add(int source, int target) {
+            if (size == from.length) {
+                from = Arrays.copyOf(from, size * 2);
+                to = Arrays.copyOf(to, size * 2);
+            }
+            from[size] = source;
+            to[size] = target;
+            size++;
+        }
+    }
+
+    // ASCII lines of decimal ids, formatted without going through String
+    private static final class LineBuffer {
+
+        private byte[] bytes = new byte[1 << 12];
+
+        private int length;
+
+        LineBuffer append(int value) {
+            ensure(11);
+            int start = length;
+            do {
+                bytes[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            for (int i = start, j = length - 1; i < j; i++, j--) {
+                byte swap = bytes[i];
+                bytes[i] = bytes[j];
+                bytes[j] = swap;
+            }
+            return this;
+        }
+
+        LineBuffer space() {
+            ensure(1);
+            bytes[length++] = ' ';
+            return this;
+        }
+
+        LineBuffer newLine() {
+            ensure(1);
+            bytes[length++] = '\n';
+            return this;
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+
+        void writeTo(FileChannel channel) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
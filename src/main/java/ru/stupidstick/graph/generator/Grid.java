@@ -0,0 +1,58 @@
+package ru.stupidstick.graph.generator;
+
+import java.util.SplittableRandom;
+
+// A rows x columns lattice: vertex r * columns + c has edges to its right and lower neighbours.
+// Nothing is random; chunks are ranges of rows.
+final class Grid extends GraphGenerator {
+
+    private final int rows;
+
+    private final int columns;
+
+    private final int rowsPerChunk;
+
+    Grid(int rows, int columns) {
+        super(0);
+        if (rows < 0 || columns < 0 || (long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid size must be non-negative and fit int vertex ids");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.rowsPerChunk = Math.max(1, CHUNK_EDGES / Math.max(1, 2 * columns));
+    }
+
+    @Override
+    public int vertexCount() {
+        return rows * columns;
+    }
+
+    @Override
+    public long edgeCount() {
+        if (rows == 0 || columns == 0) {
+            return 0;
+        }
+        return (long) rows * (columns - 1) + (long) (rows - 1) * columns;
+    }
+
+    @Override
+    int chunkCount() {
+        return (rows + rowsPerChunk - 1) / rowsPerChunk;
+    }
+
+    @Override
+    void generate(int chunk, SplittableRandom random, EdgeChunk edges) {
+        int end = Math.min(rows, (chunk + 1) * rowsPerChunk);
+        for (int row = chunk * rowsPerChunk; row < end; row++) {
+            for (int column = 0; column < columns; column++) {
+                int vertex = row * columns + column;
+                if (column + 1 < columns) {
+                    edges.add(vertex, vertex + 1);
+                }
+                if (row + 1 < rows) {
+                    edges.add(vertex, vertex + columns);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package ru.stupidstick.graph.generator;
+
+import java.util.SplittableRandom;
+
+// R-MAT, the recursive matrix model behind the Graph500 Kronecker graphs: every edge descends scale levels
+// of the adjacency matrix, picking one of the four quadrants with probabilities a, b, c and 1 - a - b - c.
+// Vertex ids are then scrambled by a fixed bijection, so the hubs are not all at the low indices.
+// Self-loops are dropped; repeated edges are kept.
+final class RMat extends GraphGenerator {
+
+    private final int scale;
+
+    private final long edgeCount;
+
+    private final double a;
+
+    private final double ab;
+
+    private final double abc;
+
+    private final long multiplier;
+
+    private final long offset;
+
+    RMat(int scale, int edgeFactor, double a, double b, double c, long seed) {
+        super(seed);
+        if (scale < 1 || scale > 30) {
+            throw new IllegalArgumentException("Scale must be within [1, 30]");
+        }
+        if (edgeFactor < 1) {
+            throw new IllegalArgumentException("Edge factor must be positive");
+        }
+        if (a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException("Quadrant probabilities must be non-negative and sum to at most 1");
+        }
+        this.scale = scale;
+        this.edgeCount = (long) edgeFactor << scale;
+        this.a = a;
+        this.ab = a + b;
+        this.abc = a + b + c;
+        SplittableRandom random = new SplittableRandom(seed);
+        this.multiplier = random.nextLong() | 1;
+        this.offset = random.nextLong();
+    }
+
+    @Override
+    public int vertexCount() {
+        return 1 << scale;
+    }
+
+    @Override
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    int chunkCount() {
+        return (int) ((edgeCount + CHUNK_EDGES - 1) / CHUNK_EDGES);
+    }
+
+    @Override
+    void generate(int chunk, SplittableRandom random, EdgeChunk edges) {
+        long count = Math.min(CHUNK_EDGES, edgeCount - (long) chunk * CHUNK_EDGES);
+        for (long k = 0; k < count; k++) {
+            int row = 0;
+            int column = 0;
+            for (int level = 0; level < scale; level++) {
+                double quadrant = random.nextDouble();
+                row <<= 1;
+                column <<= 1;
+                if (quadrant >= abc) {
+                    row |= 1;
+                    column |= 1;
+                } else if (quadrant >= ab) {
+                    row |= 1;
+                } else if (quadrant >= a) {
+                    column |= 1;
+                }
+            }
+            if (row != column) {
+                edges.add(scramble(row), scramble(column));
+            }
+        }
+    }
+
+    // Multiplying by an odd number and adding are both invertible modulo 2^scale
+    private int scramble(int vertex) {
+        return (int) ((vertex * multiplier + offset) & ((1L << scale) - 1));
+    }
+}
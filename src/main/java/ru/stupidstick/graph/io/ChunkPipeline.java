@@ -0,0 +1,73 @@
+package ru.stupidstick.graph.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Works on chunks in parallel and hands the results to a sink in submission order, on the submitting thread.
+// At most two chunks per worker are in flight: a submit first waits for the oldest chunk once that many are
+// pending, so memory stays bounded by the chunk size whatever the size of the whole input.
+// A failure in a chunk is rethrown as it is if unchecked, otherwise wrapped in an IOException.
+public final class ChunkPipeline<T> implements AutoCloseable {
+
+    public interface Sink<T> {
+        void accept(T result) throws IOException;
+    }
+
+    private final int threads;
+
+    private final Sink<T> sink;
+
+    private final ExecutorService executor;
+
+    private final Deque<Future<T>> inFlight = new ArrayDeque<>();
+
+    public ChunkPipeline(int threads, Sink<T> sink) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        this.threads = threads;
+        this.sink = sink;
+        this.executor = Executors.newFixedThreadPool(threads);
+    }
+
+    public void submit(Callable<T> chunk) throws IOException {
+        if (inFlight.size() >= threads * 2) {
+            sink.accept(await(inFlight.poll()));
+        }
+        inFlight.add(executor.submit(chunk));
+    }
+
+    // Waits for every submitted chunk and hands it over
+    public void finish() throws IOException {
+        while (!inFlight.isEmpty()) {
+            sink.accept(await(inFlight.poll()));
+        }
+    }
+
+    // Chunks still pending are dropped
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a chunk");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ru.stupidstick.graph.io;
+
+import java.io.IOException;
+
+public interface Codec<T> {
+
+    void write(T value, BinaryOutput out) throws IOException;
+
+    T read(BinaryInput in) throws IOException;
+}
@@ -0,0 +1,75 @@
+package ru.stupidstick.graph.io;
+
+import java.io.IOException;
+
+public final class Codecs {
+
+    public static final Codec<String> STRING = new Codec<>() {
+        @Override
+        public void write(String value, BinaryOutput out) throws IOException {
+            out.writeString(value);
+        }
+
+        @Override
+        public String read(BinaryInput in) throws IOException {
+            return in.readString();
+        }
+    };
+
+    public static final Codec<Integer> INTEGER = nullable(new Codec<>() {
+        @Override
+        public void write(Integer value, BinaryOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(BinaryInput in) throws IOException {
+            return in.readInt();
+        }
+    });
+
+    public static final Codec<Long> LONG = nullable(new Codec<>() {
+        @Override
+        public void write(Long value, BinaryOutput out) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(BinaryInput in) throws IOException {
+            return in.readLong();
+        }
+    });
+
+    public static final Codec<Double> DOUBLE = nullable(new Codec<>() {
+        @Override
+        public void write(Double value, BinaryOutput out) throws IOException {
+            out.writeDouble(value);
+        }
+
+        @Override
+        public Double read(BinaryInput in) throws IOException {
+            return in.readDouble();
+        }
+    });
+
+    private Codecs() {
+    }
+
+    // Prefixes every value with a presence byte, so that the wrapped codec never sees null
+    public static <T> Codec<T> nullable(Codec<T> codec) {
+        return new Codec<>() {
+            @Override
+            public void write(T value, BinaryOutput out) throws IOException {
+                out.writeByte(value == null ? 0 : 1);
+                if (value != null) {
+                    codec.write(value, out);
+                }
+            }
+
+            @Override
+            public T read(BinaryInput in) throws IOException {
+                return in.readByte() == 0 ? null : codec.read(in);
+            }
+        };
+    }
+}
@@ -0,0 +1,317 @@
+package ru.stupidstick.graph.io;
+
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.Vertex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+// Streams a text edge list into a graph. The file is read in chunks cut at line ends, chunks are parsed
+// in parallel into compact id arrays with the names interned per chunk, and parsed chunks are applied to the
+// graph in file order on the calling thread, through a ChunkPipeline.
+//
+// SIF lines are "source relation target [target ...]", the relation becomes the edge data.
+// EDGE_LIST lines are "source target [weight]". A line with a single name adds an isolated vertex;
+// blank lines and lines starting with '#' are skipped. Vertices are matched by name, also against the
+// vertices the graph already has.
+public class EdgeListImporter<W extends Comparable<W>> {
+
+    public enum Format {
+        SIF,
+        EDGE_LIST
+    }
+
+    private static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    private final Format format;
+
+    private final Function<String, W> weightParser;
+
+    private final int threads;
+
+    private final int chunkSize;
+
+    public EdgeListImporter(Format format) {
+        this(format, null, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public EdgeListImporter(Format format, Function<String, W> weightParser) {
+        this(format, weightParser, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public EdgeListImporter(Format format, Function<String, W> weightParser, int threads, int chunkSize) {
+        if (threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("threads and chunkSize must be positive");
+        }
+        this.format = format;
+        this.weightParser = weightParser;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    public Graph<String, String, W> importInto(Path path, Graph<String, String, W> graph) throws IOException {
+        Map<String, Vertex<String, String>> vertices = new HashMap<>();
+        var vertexIterator = graph.vertexIterator();
+        while (vertexIterator.hasSet()) {
+            vertices.putIfAbsent(vertexIterator.get().getName(), vertexIterator.get());
+            vertexIterator.next();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, READ);
+             ChunkPipeline<Chunk<W>> pipeline = new ChunkPipeline<>(threads, chunk -> apply(chunk, graph, vertices))) {
+            ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+            boolean eof = false;
+            while (!eof) {
+                eof = fill(channel, buffer);
+                int end = eof ? buffer.position() : lastLineEnd(buffer);
+                if (end == -1) {
+                    buffer = grow(buffer);
+                    continue;
+                }
+                byte[] bytes = Arrays.copyOf(buffer.array(), end);
+                buffer.flip().position(end);
+                buffer.compact();
+                pipeline.submit(() -> parse(bytes));
+            }
+            pipeline.finish();
+        }
+        return graph;
+    }
+
+    private static boolean fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int lastLineEnd(ByteBuffer buffer) {
+        byte[] array = buffer.array();
+        for (int i = buffer.position() - 1; i >= 0; i--) {
+            if (array[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    // A line longer than the buffer: double it and keep reading
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
+    // New vertices and the edges of a chunk each go into the graph as one batch
+    private void apply(Chunk<W> chunk, Graph<String, String, W> graph, Map<String, Vertex<String, String>> vertices) {
+        @SuppressWarnings("unchecked")
+        Vertex<String, String>[] resolved = (Vertex<String, String>[]) new Vertex<?, ?>[chunk.names.size];
+        List<Vertex<String, String>> created = new ArrayList<>();
+        for (int id = 0; id < chunk.names.size; id++) {
+            String name = chunk.names.values[id];
+            Vertex<String, String> vertex = vertices.get(name);
+            if (vertex == null) {
+                vertex = new Vertex<>(name, null);
+                vertices.put(name, vertex);
+                created.add(vertex);
+            }
+            resolved[id] = vertex;
+        }
+        graph.insertVertices(created);
+
+        List<Edge<String, String, W>> edges = new ArrayList<>(chunk.edgeCount);
+        for (int k = 0; k < chunk.edgeCount; k++) {
+            int label = chunk.edges[3 * k + 2];
+            edges.add(new Edge<>(
+                    resolved[chunk.edges[3 * k]],
+                    resolved[chunk.edges[3 * k + 1]],
+                    chunk.weights == null ? null : chunk.weight(k),
+                    label == -1 ? null : chunk.labels.values[label]
+            ));
+        }
+        graph.insertEdges(edges);
+    }
+
+    private Chunk<W> parse(byte[] bytes) {
+        Chunk<W> chunk = new Chunk<>(bytes, format == Format.EDGE_LIST && weightParser != null);
+        int[] tokens = new int[16];
+        int position = 0;
+        while (position < bytes.length) {
+            int lineEnd = position;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int count = 0;
+            int i = position;
+            while (i < lineEnd) {
+                while (i < lineEnd && isSpace(bytes[i])) {
+                    i++;
+                }
+                int start = i;
+                while (i < lineEnd && !isSpace(bytes[i])) {
+                    i++;
+                }
+                if (i > start) {
+                    if (2 * count + 2 > tokens.length) {
+                        tokens = Arrays.copyOf(tokens, tokens.length * 2);
+                    }
+                    tokens[2 * count] = start;
+                    tokens[2 * count + 1] = i - start;
+                    count++;
+                }
+            }
+            if (count > 0 && bytes[tokens[0]] != '#') {
+                parseLine(chunk, bytes, tokens, count);
+            }
+            position = lineEnd + 1;
+        }
+        return chunk;
+    }
+
+    private void parseLine(Chunk<W> chunk, byte[] bytes, int[] tokens, int count) {
+        int source = chunk.names.intern(tokens[0], tokens[1]);
+        if (count == 1) {
+            return;
+        }
+        if (format == Format.SIF) {
+            int label = chunk.labels.intern(tokens[2], tokens[3]);
+            for (int t = 2; t < count; t++) {
+                chunk.addEdge(source, chunk.names.intern(tokens[2 * t], tokens[2 * t + 1]), label, null);
+            }
+            return;
+        }
+        int target = chunk.names.intern(tokens[2], tokens[3]);
+        W weight = null;
+        if (count > 2 && weightParser != null) {
+            weight = weightParser.apply(new String(bytes, tokens[4], tokens[5], StandardCharsets.UTF_8));
+        }
+        chunk.addEdge(source, target, -1, weight);
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static final class Chunk<W> {
+
+        private final ByteSliceInterner names;
+
+        private final ByteSliceInterner labels;
+
+        private int[] edges = new int[3 * 64];
+
+        private Object[] weights;
+
+        private int edgeCount;
+
+        Chunk(byte[] bytes, boolean weighted) {
+            this.names = new ByteSliceInterner(bytes);
+            this.labels = new ByteSliceInterner(bytes);
+            this.weights = weighted ? new Object[64] : null;
+        }
+
+        void addEdge(int from, int to, int label, W weight) {
+            if (3 * edgeCount + 3 > edges.length) {
+                edges = Arrays.copyOf(edges, edges.length * 2);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, weights.length * 2);
+                }
+            }
+            edges[3 * edgeCount] = from;
+            edges[3 * edgeCount + 1] = to;
+            edges[3 * edgeCount + 2] = label;
+            if (weights != null) {
+                weights[edgeCount] = weight;
+            }
+            edgeCount++;
+        }
+
+        @SuppressWarnings("unchecked")
+        W weight(int edge) {
+            return (W) weights[edge];
+        }
+    }
+
+    // Maps byte ranges of the chunk to dense ids; a String is decoded only for the first occurrence of a name
+    private static final class ByteSliceInterner {
+
+        private final byte[] source;
+
+        private int[] table = new int[64];
+
+        private int[] starts = new int[32];
+
+        private int[] lengths = new int[32];
+
+        private int[] hashes = new int[32];
+
+        private String[] values = new String[32];
+
+        private int size;
+
+        ByteSliceInterner(byte[] source) {
+            this.source = source;
+        }
+
+        int intern(int start, int length) {
+            int hash = 1;
+            for (int i = start; i < start + length; i++) {
+                hash = 31 * hash + source[i];
+            }
+            int mask = table.length - 1;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (table[slot] != 0) {
+                int id = table[slot] - 1;
+                if (hashes[id] == hash && Arrays.equals(source, starts[id], starts[id] + lengths[id],
+                        source, start, start + length)) {
+                    return id;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            int id = size++;
+            if (id == values.length) {
+                starts = Arrays.copyOf(starts, id * 2);
+                lengths = Arrays.copyOf(lengths, id * 2);
+                hashes = Arrays.copyOf(hashes, id * 2);
+                values = Arrays.copyOf(values, id * 2);
+            }
+            starts[id] = start;
+            lengths[id] = length;
+            hashes[id] = hash;
+            values[id] = new String(source, start, length, StandardCharsets.UTF_8);
+            table[slot] = id + 1;
+            if (size * 2 > table.length) {
+                rehash();
+            }
+            return id;
+        }
+
+        private void rehash() {
+            table = new int[table.length * 2];
+            int mask = table.length - 1;
+            for (int id = 0; id < size; id++) {
+                int slot = (hashes[id] ^ (hashes[id] >>> 16)) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id + 1;
+            }
+        }
+    }
+}
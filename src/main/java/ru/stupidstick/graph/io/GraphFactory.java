@@ -0,0 +1,10 @@
+package ru.stupidstick.graph.io;
+
+import ru.stupidstick.graph.Graph;
+
+// Creates the graph a loader fills, sized for the counts read from the file header
+@FunctionalInterface
+public interface GraphFactory<N, D, W extends Comparable<W>> {
+
+    Graph<N, D, W> create(boolean isDirected, int vertexCount, long edgeCount);
+}
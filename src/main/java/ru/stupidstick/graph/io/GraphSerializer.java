@@ -0,0 +1,166 @@
+package ru.stupidstick.graph.io;
+
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.Vertex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// Binary save/load of any Graph. Layout: header, then every vertex as (name, data),
+// then every edge as (from index, to index, weight, data). Undirected edges are stored once.
+public class GraphSerializer<N, D, W extends Comparable<W>> {
+
+    private static final int MAGIC = 0x53524747;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 24;
+
+    private static final int EDGE_BATCH = 1 << 16;
+
+    private final Codec<N> nameCodec;
+
+    private final Codec<D> dataCodec;
+
+    private final Codec<W> weightCodec;
+
+    public GraphSerializer(Codec<N> nameCodec, Codec<D> dataCodec, Codec<W> weightCodec) {
+        this.nameCodec = nameCodec;
+        this.dataCodec = dataCodec;
+        this.weightCodec = weightCodec;
+    }
+
+    public void write(Graph<N, D, W> graph, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            BinaryOutput out = new BinaryOutput(channel);
+            for (int i = 0; i < HEADER_SIZE; i++) {
+                out.writeByte(0);
+            }
+
+            Map<Vertex<N, D>, Integer> indices = new HashMap<>();
+            List<Vertex<N, D>> vertices = new ArrayList<>();
+            var vertexIterator = graph.vertexIterator();
+            while (vertexIterator.hasSet()) {
+                var vertex = vertexIterator.get();
+                indices.put(vertex, vertices.size());
+                vertices.add(vertex);
+                nameCodec.write(vertex.getName(), out);
+                dataCodec.write(vertex.getData(), out);
+                vertexIterator.next();
+            }
+
+            long edgeCount = 0;
+            List<Edge<N, D, W>> unpairedLoops = new ArrayList<>();
+            for (int from = 0; from < vertices.size(); from++) {
+                var vertex = vertices.get(from);
+                unpairedLoops.clear();
+                var edgeIterator = graph.edgeIterator(vertex);
+                while (edgeIterator.hasSet()) {
+                    var edge = edgeIterator.get();
+                    Integer to = indices.get(edge.getTo());
+                    boolean owned = true;
+                    if (!graph.isDirected() && to != null) {
+                        // undirected edges sit in the rows of both endpoints, keep the one in the row of the lower
+                        // index. Ownership goes by index, as vertex and edge objects may be new on every access
+                        Integer source = indices.get(edge.getFrom());
+                        to = source != null && source != from ? source : to;
+                        if (to != from) {
+                            owned = from < to;
+                        } else {
+                            // an undirected self loop may be listed twice in its only row
+                            owned = !pairLoop(unpairedLoops, edge);
+                        }
+                    }
+                    if (to != null && owned) {
+                        out.writeInt(from);
+                        out.writeInt(to);
+                        weightCodec.write(edge.getWeight(), out);
+                        dataCodec.write(edge.getData(), out);
+                        edgeCount++;
+                    }
+                    edgeIterator.next();
+                }
+            }
+            out.close();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(graph.isDirected() ? 1 : 0)
+                    .putInt(vertices.size())
+                    .putLong(edgeCount)
+                    .flip();
+            long written = 0;
+            while (header.hasRemaining()) {
+                written += channel.write(header, written);
+            }
+        }
+    }
+
+    // List-backed graphs give an undirected self loop twice, either as the same Edge or as two equal copies;
+    // the matrix graphs give it once. Returns true for a second listing, otherwise remembers the first one.
+    private static <E extends Edge<?, ?, ?>> boolean pairLoop(List<E> unpaired, E loop) {
+        int match = unpaired.indexOf(loop);
+        for (int i = 0; i < unpaired.size() && match == -1; i++) {
+            var first = unpaired.get(i);
+            if (Objects.equals(first.getWeight(), loop.getWeight()) && Objects.equals(first.getData(), loop.getData())) {
+                match = i;
+            }
+        }
+        if (match == -1) {
+            unpaired.add(loop);
+            return false;
+        }
+        unpaired.remove(match);
+        return true;
+    }
+
+    public Graph<N, D, W> read(Path path, GraphFactory<N, D, W> factory) throws IOException {
+        try (BinaryInput in = new BinaryInput(FileChannel.open(path, READ))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a serialized graph: " + path);
+            }
+            boolean isDirected = in.readInt() != 0;
+            int vertexCount = in.readInt();
+            long edgeCount = in.readLong();
+
+            Graph<N, D, W> graph = factory.create(isDirected, vertexCount, edgeCount);
+            graph.ensureCapacity(vertexCount, edgeCount);
+            List<Vertex<N, D>> vertices = new ArrayList<>(vertexCount);
+            for (int i = 0; i < vertexCount; i++) {
+                N name = nameCodec.read(in);
+                vertices.add(new Vertex<>(name, dataCodec.read(in)));
+            }
+            graph.insertVertices(vertices);
+
+            // edges go in batches, so the Edge objects of a huge file are never all held twice
+            List<Edge<N, D, W>> batch = new ArrayList<>((int) Math.min(edgeCount, EDGE_BATCH));
+            for (long i = 0; i < edgeCount; i++) {
+                var from = vertices.get(in.readInt());
+                var to = vertices.get(in.readInt());
+                W weight = weightCodec.read(in);
+                batch.add(new Edge<>(from, to, weight, dataCodec.read(in)));
+                if (batch.size() == EDGE_BATCH) {
+                    graph.insertEdges(batch);
+                    batch.clear();
+                }
+            }
+            graph.insertEdges(batch);
+            return graph;
+        }
+    }
+}
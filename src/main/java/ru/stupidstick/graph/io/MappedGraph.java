@@ -0,0 +1,389 @@
+package ru.stupidstick.graph.io;
+
+import ru.stupidstick.fx.graph.VisEdge;
+import ru.stupidstick.fx.graph.VisGraph;
+import ru.stupidstick.fx.graph.VisNode;
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.Iterator;
+import ru.stupidstick.graph.Vertex;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static ru.stupidstick.graph.io.MappedGraphFormat.*;
+
+// Read-only graph over a file written by MappedGraphWriter. Nothing is loaded up front: the file is mapped
+// and pages are faulted in, and shared with other processes, through the OS page cache.
+// The index-based accessors read straight from the mapping; Vertex and Edge objects are only created
+// when the Graph API hands them out, and vertex names and data are decoded on access.
+public class MappedGraph implements Graph<String, String, Double> {
+
+    private final MappedRegion region;
+
+    private final boolean isDirected;
+
+    private final int vertexCount;
+
+    private final long edgeCount;
+
+    private final long offsetsAt;
+
+    private final long targetsAt;
+
+    private final long weightsAt;
+
+    private final long stringsAt;
+
+    private final long stringIndexAt;
+
+    private MappedGraph(MappedRegion region) {
+        this.region = region;
+        this.isDirected = (region.getInt(FLAGS_AT) & FLAG_DIRECTED) != 0;
+        this.vertexCount = (int) region.getLong(VERTEX_COUNT_AT);
+        this.edgeCount = region.getLong(EDGE_COUNT_AT);
+        this.offsetsAt = region.getLong(OFFSETS_AT);
+        this.targetsAt = region.getLong(TARGETS_AT);
+        this.weightsAt = region.getLong(WEIGHTS_AT);
+        this.stringsAt = region.getLong(STRINGS_AT);
+        this.stringIndexAt = region.getLong(STRING_INDEX_AT);
+    }
+
+    public static MappedGraph open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a mapped graph file: " + path);
+            }
+            MappedRegion region = new MappedRegion(channel);
+            if (region.getInt(MAGIC_AT) != MAGIC || region.getInt(VERSION_AT) != VERSION) {
+                throw new IOException("Not a mapped graph file: " + path);
+            }
+            return new MappedGraph(region);
+        }
+    }
+
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    public long firstEdge(int vertex) {
+        return region.getLong(offsetsAt + (long) vertex * Long.BYTES);
+    }
+
+    public long endEdge(int vertex) {
+        return region.getLong(offsetsAt + (long) (vertex + 1) * Long.BYTES);
+    }
+
+    public int target(long edge) {
+        return region.getInt(targetsAt + edge * Integer.BYTES);
+    }
+
+    public double weight(long edge) {
+        return region.getDouble(weightsAt + edge * Double.BYTES);
+    }
+
+    public String name(int vertex) {
+        return readString(stringsAt + region.getLong(stringIndexAt + (long) vertex * Long.BYTES));
+    }
+
+    public String data(int vertex) {
+        long position = stringsAt + region.getLong(stringIndexAt + (long) vertex * Long.BYTES);
+        int nameLength = region.getInt(position);
+        return readString(position + Integer.BYTES + Math.max(nameLength, 0));
+    }
+
+    public Vertex<String, String> vertex(int index) {
+        return new MappedVertex(this, index);
+    }
+
+    @Override
+    public Vertex<String, String> insertVertex(String name, String data) {
+        throw new UnsupportedOperationException("MappedGraph is read-only");
+    }
+
+    @Override
+    public boolean removeVertex(Vertex<String, String> vertex) {
+        throw new UnsupportedOperationException("MappedGraph is read-only");
+    }
+
+    @Override
+    public Edge<String, String, Double> insertEdge(Vertex<String, String> v1, Vertex<String, String> v2) {
+        throw new UnsupportedOperationException("MappedGraph is read-only");
+    }
+
+    @Override
+    public boolean deleteEdge(Vertex<String, String> v1, Vertex<String, String> v2) {
+        throw new UnsupportedOperationException("MappedGraph is read-only");
+    }
+
+    @Override
+    public Optional<Edge<String, String, Double>> getEdge(Vertex<String, String> v1, Vertex<String, String> v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1) {
+            return Optional.empty();
+        }
+        for (long k = firstEdge(i1), end = endEdge(i1); k < end; k++) {
+            if (target(k) == i2) {
+                return Optional.of(edge(v1, v2, k));
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Every undirected edge is stored in both endpoint rows and read back as two Edge objects, so the rows
+    // are walked by index and an undirected edge is drawn from its lower endpoint only
+    @Override
+    public VisGraph toVisGraph() {
+        VisNode[] nodes = new VisNode[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            nodes[v] = new VisNode(v, vertex(v).toString());
+        }
+        String arrows = isDirected ? "to" : "";
+        List<VisEdge> visEdges = new ArrayList<>();
+        for (int v = 0; v < vertexCount; v++) {
+            for (long k = firstEdge(v), end = endEdge(v); k < end; k++) {
+                int target = target(k);
+                if (isDirected || v <= target) {
+                    Edge<String, String, Double> edge = edge(vertex(v), vertex(target), k);
+                    visEdges.add(new VisEdge(nodes[v], nodes[target], arrows, edge.toString()));
+                }
+            }
+        }
+        VisGraph visGraph = new VisGraph();
+        visGraph.addNodes(nodes);
+        visGraph.addEdges(visEdges.toArray(VisEdge[]::new));
+        return visGraph;
+    }
+
+    // Built straight from the mapped arrays, with one vertex object per index. The two rows of an undirected
+    // edge share one Edge, matched up in row order, as CsrGraph.of would give for an in-memory graph.
+    @Override
+    public CsrGraph<String, String, Double> freeze() {
+        if (edgeCount > Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException("Too many edges to freeze");
+        }
+        @SuppressWarnings("unchecked")
+        Vertex<String, String>[] vertices = (Vertex<String, String>[]) new Vertex<?, ?>[vertexCount];
+        Arrays.setAll(vertices, this::vertex);
+        int[] offsets = new int[vertexCount + 1];
+        int[] targets = new int[(int) edgeCount];
+        @SuppressWarnings("unchecked")
+        Edge<String, String, Double>[] edges = (Edge<String, String, Double>[]) new Edge<?, ?, ?>[(int) edgeCount];
+        Map<Long, ArrayDeque<Edge<String, String, Double>>> unmatched = new HashMap<>();
+        for (int v = 0; v < vertexCount; v++) {
+            for (long k = firstEdge(v), end = endEdge(v); k < end; k++) {
+                int target = target(k);
+                targets[(int) k] = target;
+                Edge<String, String, Double> edge = null;
+                if (!isDirected && target < v) {
+                    var pending = unmatched.get(pair(target, v));
+                    edge = pending == null ? null : pending.poll();
+                }
+                if (edge == null) {
+                    edge = edge(vertices[v], vertices[target], k);
+                    if (!isDirected && v < target) {
+                        unmatched.computeIfAbsent(pair(v, target), key -> new ArrayDeque<>()).add(edge);
+                    }
+                }
+                edges[(int) k] = edge;
+            }
+            offsets[v + 1] = (int) endEdge(v);
+        }
+        return CsrGraph.of(isDirected, vertices, offsets, targets, edges);
+    }
+
+    private static long pair(int from, int to) {
+        return (long) from << 32 | to;
+    }
+
+    @Override
+    public Iterator<Vertex<String, String>> vertexIterator() {
+        return new VertexIterator();
+    }
+
+    @Override
+    public Iterator<Edge<String, String, Double>> edgeIterator() {
+        return new EdgeIterator(0, vertexCount);
+    }
+
+    @Override
+    public Iterator<Edge<String, String, Double>> edgeIterator(Vertex<String, String> vertex) {
+        int index = indexOf(vertex);
+        if (index == -1) {
+            throw new IllegalArgumentException("Vertex not found");
+        }
+        return new EdgeIterator(index, index + 1);
+    }
+
+    @Override
+    public Stream<Vertex<String, String>> vertices() {
+        return IntStream.range(0, vertexCount).mapToObj(this::vertex);
+    }
+
+    // Split over vertex ranges; each row's edges are then read sequentially from the mapping
+    @Override
+    public Stream<Edge<String, String, Double>> edges() {
+        return IntStream.range(0, vertexCount).boxed().flatMap(vertex -> {
+            Vertex<String, String> from = vertex(vertex);
+            return LongStream.range(firstEdge(vertex), endEdge(vertex)).mapToObj(edge -> edge(from, vertex(target(edge)), edge));
+        });
+    }
+
+    @Override
+    public boolean isDirected() {
+        return isDirected;
+    }
+
+    private int indexOf(Vertex<String, String> vertex) {
+        return vertex instanceof MappedVertex mapped && mapped.graph == this ? mapped.index : -1;
+    }
+
+    private Edge<String, String, Double> edge(Vertex<String, String> from, Vertex<String, String> to, long edge) {
+        double weight = weight(edge);
+        return new Edge<>(from, to, Double.isNaN(weight) ? null : weight);
+    }
+
+    private String readString(long position) {
+        int length = region.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        region.getBytes(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private class VertexIterator implements Iterator<Vertex<String, String>> {
+
+        private int index;
+
+        @Override
+        public void next() {
+            index++;
+        }
+
+        @Override
+        public boolean hasSet() {
+            return index < vertexCount;
+        }
+
+        @Override
+        public Vertex<String, String> get() {
+            return vertex(index);
+        }
+    }
+
+    private class EdgeIterator implements Iterator<Edge<String, String, Double>> {
+
+        private final int endVertex;
+
+        private int vertex;
+
+        private long edge;
+
+        private long rowEnd;
+
+        EdgeIterator(int vertex, int endVertex) {
+            this.vertex = vertex;
+            this.endVertex = endVertex;
+            if (vertex < endVertex) {
+                this.edge = firstEdge(vertex);
+                this.rowEnd = endEdge(vertex);
+                skipEmptyRows();
+            }
+        }
+
+        @Override
+        public void next() {
+            edge++;
+            skipEmptyRows();
+        }
+
+        @Override
+        public boolean hasSet() {
+            return vertex < endVertex;
+        }
+
+        @Override
+        public Edge<String, String, Double> get() {
+            return edge(vertex(vertex), vertex(target(edge)), edge);
+        }
+
+        private void skipEmptyRows() {
+            while (edge == rowEnd && vertex < endVertex) {
+                vertex++;
+                if (vertex < endVertex) {
+                    rowEnd = endEdge(vertex);
+                }
+            }
+        }
+    }
+
+    // Flyweight vertex identified by its index in the file; name and data are decoded on every access
+    private static final class MappedVertex extends Vertex<String, String> {
+
+        private final MappedGraph graph;
+
+        private final int index;
+
+        MappedVertex(MappedGraph graph, int index) {
+            super(null, null);
+            this.graph = graph;
+            this.index = index;
+        }
+
+        @Override
+        public String getName() {
+            return graph.name(index);
+        }
+
+        @Override
+        public String getData() {
+            return graph.data(index);
+        }
+
+        @Override
+        public void setName(String name) {
+            throw new UnsupportedOperationException("MappedGraph is read-only");
+        }
+
+        @Override
+        public void setData(String data) {
+            throw new UnsupportedOperationException("MappedGraph is read-only");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MappedVertex other && other.graph == graph && other.index == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(graph) + index;
+        }
+
+        @Override
+        public String toString() {
+            return "name: " + getName() + "\n" + "data: " + getData();
+        }
+    }
+}
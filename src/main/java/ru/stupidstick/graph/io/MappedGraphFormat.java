@@ -0,0 +1,43 @@
+package ru.stupidstick.graph.io;
+
+// Layout of the file read by MappedGraph, all values little-endian:
+//
+//   header           HEADER_SIZE bytes, see the *_AT constants
+//   offsets          (vertexCount + 1) longs, edges of vertex v are [offsets[v], offsets[v + 1])
+//   targets          edgeCount ints, padded to 8 bytes
+//   weights          edgeCount doubles, NaN for a missing weight
+//   strings          per vertex: name then data, each an int length (-1 for null) followed by UTF-8 bytes
+//   string index     vertexCount longs, start of each vertex record relative to the strings section
+final class MappedGraphFormat {
+
+    static final int MAGIC = 0x504D5247;
+
+    static final int VERSION = 1;
+
+    static final int FLAG_DIRECTED = 1;
+
+    static final int MAGIC_AT = 0;
+
+    static final int VERSION_AT = 4;
+
+    static final int FLAGS_AT = 8;
+
+    static final int VERTEX_COUNT_AT = 16;
+
+    static final int EDGE_COUNT_AT = 24;
+
+    static final int OFFSETS_AT = 32;
+
+    static final int TARGETS_AT = 40;
+
+    static final int WEIGHTS_AT = 48;
+
+    static final int STRINGS_AT = 56;
+
+    static final int STRING_INDEX_AT = 64;
+
+    static final int HEADER_SIZE = 72;
+
+    private MappedGraphFormat() {
+    }
+}
@@ -0,0 +1,85 @@
+package ru.stupidstick.graph.io;
+
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.Graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static ru.stupidstick.graph.io.MappedGraphFormat.*;
+
+// Writes a graph in the MappedGraphFormat layout. Names and data are stored through toString,
+// weights through Number.doubleValue
+public final class MappedGraphWriter {
+
+    private MappedGraphWriter() {
+    }
+
+    public static <N, D, W extends Comparable<W>> void write(Graph<N, D, W> graph, Path path) throws IOException {
+        CsrGraph<N, D, W> csr = graph.freeze();
+        int vertexCount = csr.vertexCount();
+        int edgeCount = csr.edgeCount();
+
+        try (FileChannel channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            BinaryOutput out = new BinaryOutput(channel);
+            for (int i = 0; i < HEADER_SIZE; i++) {
+                out.writeByte(0);
+            }
+
+            long offsetsAt = out.position();
+            for (int v = 0; v < vertexCount; v++) {
+                out.writeLong(csr.firstEdge(v));
+            }
+            out.writeLong(edgeCount);
+
+            long targetsAt = out.position();
+            for (int k = 0; k < edgeCount; k++) {
+                out.writeInt(csr.target(k));
+            }
+            out.padTo(Long.BYTES);
+
+            long weightsAt = out.position();
+            for (int k = 0; k < edgeCount; k++) {
+                out.writeDouble(csr.weight(k));
+            }
+
+            long stringsAt = out.position();
+            long[] stringIndex = new long[vertexCount];
+            for (int v = 0; v < vertexCount; v++) {
+                stringIndex[v] = out.position() - stringsAt;
+                out.writeString(Objects.toString(csr.vertex(v).getName(), null));
+                out.writeString(Objects.toString(csr.vertex(v).getData(), null));
+            }
+            out.padTo(Long.BYTES);
+
+            long stringIndexAt = out.position();
+            for (int v = 0; v < vertexCount; v++) {
+                out.writeLong(stringIndex[v]);
+            }
+            out.close();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC_AT, MAGIC)
+                    .putInt(VERSION_AT, VERSION)
+                    .putInt(FLAGS_AT, graph.isDirected() ? FLAG_DIRECTED : 0)
+                    .putLong(VERTEX_COUNT_AT, vertexCount)
+                    .putLong(EDGE_COUNT_AT, edgeCount)
+                    .putLong(OFFSETS_AT, offsetsAt)
+                    .putLong(TARGETS_AT, targetsAt)
+                    .putLong(WEIGHTS_AT, weightsAt)
+                    .putLong(STRINGS_AT, stringsAt)
+                    .putLong(STRING_INDEX_AT, stringIndexAt);
+            long written = 0;
+            while (header.hasRemaining()) {
+                written += channel.write(header, written);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ru.stupidstick.graph.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+// A whole file mapped read-only as a sequence of chunks, since a single mapping is limited to 2 GB.
+// The chunk size is a multiple of 8, so aligned primitives never straddle two chunks.
+final class MappedRegion {
+
+    private static final int CHUNK_SHIFT = 30;
+
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final ByteBuffer[] chunks;
+
+    private final long size;
+
+    MappedRegion(FileChannel channel) throws IOException {
+        this.size = channel.size();
+        int count = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+        this.chunks = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << CHUNK_SHIFT;
+            long length = Math.min(CHUNK_SIZE, size - start);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    int getInt(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)].getInt((int) (position & CHUNK_MASK));
+    }
+
+    long getLong(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & CHUNK_MASK));
+    }
+
+    double getDouble(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)].getDouble((int) (position & CHUNK_MASK));
+    }
+
+    void getBytes(long position, byte[] destination) {
+        int offset = 0;
+        while (offset < destination.length) {
+            ByteBuffer chunk = chunks[(int) (position >>> CHUNK_SHIFT)];
+            int start = (int) (position & CHUNK_MASK);
+            int length = Math.min(destination.length - offset, chunk.limit() - start);
+            chunk.get(start, destination, offset, length);
+            offset += length;
+            position += length;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package ru.stupidstick.graph.layout;
+
+import ru.stupidstick.fx.graph.VisEdge;
+import ru.stupidstick.fx.graph.VisGraph;
+import ru.stupidstick.fx.graph.VisNode;
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Fruchterman-Reingold force-directed layout. Every vertex repels every other one, approximated through a
+// Barnes-Hut quadtree rebuilt each iteration, and edges pull their endpoints together. The forces of each
+// iteration are computed in parallel over chunks of vertices on the common pool; each vertex only writes
+// its own displacement, so the result does not depend on the number of threads. Edge direction is ignored.
+public class ForceLayout {
+
+    public static final int DEFAULT_ITERATIONS = 200;
+
+    // Preferred distance between neighbours, in vis.js pixels
+    private static final double EDGE_LENGTH = 100;
+
+    // Barnes-Hut opening angle: a cell narrower than THETA times its distance counts as one body
+    private static final double THETA = 0.8;
+
+    // Coincident points would subdivide forever; below this depth a cell keeps all its bodies
+    private static final int MAX_DEPTH = 40;
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private final int iterations;
+
+    private final long seed;
+
+    public ForceLayout() {
+        this(DEFAULT_ITERATIONS, 0);
+    }
+
+    public ForceLayout(int iterations, long seed) {
+        this.iterations = iterations;
+        this.seed = seed;
+    }
+
+    // Coordinates by CSR index, x of vertex i at 2 * i and y at 2 * i + 1
+    public <N, D, W extends Comparable<W>> double[] layout(Graph<N, D, W> graph) {
+        CsrGraph<N, D, W> csr = graph.freeze();
+        int n = csr.vertexCount();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = csr.endEdge(i);
+        }
+        int[] targets = new int[csr.edgeCount()];
+        Arrays.setAll(targets, csr::target);
+        return csr.isDirected() ? run(n, symmetric(n, offsets, targets)) : run(n, new int[][]{offsets, targets});
+    }
+
+    // Places every node of the view, which can then be drawn with physics off
+    public void layout(VisGraph visGraph) {
+        List<VisNode> nodes = new ArrayList<>(visGraph.getNodes());
+        Map<VisNode, Integer> index = new IdentityHashMap<>();
+        for (VisNode node : nodes) {
+            index.put(node, index.size());
+        }
+        int n = nodes.size();
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[visGraph.getEdges().size()];
+        for (VisEdge edge : visGraph.getEdges()) {
+            offsets[index.get(edge.getFrom()) + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (VisEdge edge : visGraph.getEdges()) {
+            targets[fill[index.get(edge.getFrom())]++] = index.get(edge.getTo());
+        }
+
+        double[] positions = run(n, symmetric(n, offsets, targets));
+        for (int i = 0; i < n; i++) {
+            nodes.get(i).setPosition(positions[2 * i], positions[2 * i + 1]);
+        }
+    }
+
+    // Adds the reverse of every edge, so both endpoints feel the pull
+    private static int[][] symmetric(int n, int[] offsets, int[] targets) {
+        int[] degree = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                degree[i + 1]++;
+                degree[targets[p] + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            degree[i + 1] += degree[i];
+        }
+        int[] neighbours = new int[degree[n]];
+        int[] fill = Arrays.copyOf(degree, n);
+        for (int i = 0; i < n; i++) {
+            for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                neighbours[fill[i]++] = targets[p];
+                neighbours[fill[targets[p]]++] = i;
+            }
+        }
+        return new int[][]{degree, neighbours};
+    }
+
+    private double[] run(int n, int[][] adjacency) {
+        int[] offsets = adjacency[0];
+        int[] neighbours = adjacency[1];
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double side = EDGE_LENGTH * Math.sqrt(Math.max(n, 1));
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble(side);
+            y[i] = random.nextDouble(side);
+        }
+
+        double[] dx = new double[n];
+        double[] dy = new double[n];
+        double k2 = EDGE_LENGTH * EDGE_LENGTH;
+        int chunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            QuadTree tree = new QuadTree(x, y);
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int[] stack = new int[4 * MAX_DEPTH + 8];
+                int end = Math.min(n, (chunk + 1) * CHUNK_SIZE);
+                for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                    tree.repulse(i, k2, stack, dx, dy);
+                    for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                        int j = neighbours[p];
+                        double ex = x[j] - x[i];
+                        double ey = y[j] - y[i];
+                        double distance = Math.sqrt(ex * ex + ey * ey);
+                        dx[i] += ex * distance / EDGE_LENGTH;
+                        dy[i] += ey * distance / EDGE_LENGTH;
+                    }
+                }
+            });
+
+            // the temperature caps each move and cools linearly to nothing
+            double temperature = side / 10 * (1 - (double) iteration / iterations);
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int end = Math.min(n, (chunk + 1) * CHUNK_SIZE);
+                for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                    double length = Math.sqrt(dx[i] * dx[i] + dy[i] * dy[i]);
+                    if (length > 0) {
+                        double step = Math.min(length, temperature) / length;
+                        x[i] += dx[i] * step;
+                        y[i] += dy[i] * step;
+                    }
+                    dx[i] = 0;
+                    dy[i] = 0;
+                }
+            });
+        }
+
+        double[] positions = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            positions[2 * i] = x[i];
+            positions[2 * i + 1] = y[i];
+        }
+        return positions;
+    }
+
+    // Array-backed quadtree; the four children of a cell are stored next to each other
+    private static final class QuadTree {
+
+        private final double[] x;
+
+        private final double[] y;
+
+        private double[] centerX = new double[64];
+
+        private double[] centerY = new double[64];
+
+        private double[] half = new double[64];
+
+        // Sums of the positions below, for the centre of mass
+        private double[] sumX = new double[64];
+
+        private double[] sumY = new double[64];
+
+        private int[] count = new int[64];
+
+        private int[] firstChild = new int[64];
+
+        // The body of a leaf, -1 for an empty leaf or an inner cell
+        private int[] body = new int[64];
+
+        private int size;
+
+        QuadTree(double[] x, double[] y) {
+            this.x = x;
+            this.y = y;
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < x.length; i++) {
+                minX = Math.min(minX, x[i]);
+                minY = Math.min(minY, y[i]);
+                maxX = Math.max(maxX, x[i]);
+                maxY = Math.max(maxY, y[i]);
+            }
+            double extent = Math.max(maxX - minX, maxY - minY) / 2 + 1;
+            newCell((minX + maxX) / 2, (minY + maxY) / 2, extent);
+            for (int i = 0; i < x.length; i++) {
+                insert(i);
+            }
+        }
+
+        private void insert(int i) {
+            int cell = 0;
+            for (int depth = 0; ; depth++) {
+                if (firstChild[cell] == -1) {
+                    if (count[cell] == 0 || depth >= MAX_DEPTH) {
+                        if (count[cell] == 0) {
+                            body[cell] = i;
+                        }
+                        add(cell, i);
+                        return;
+                    }
+                    split(cell);
+                }
+                add(cell, i);
+                cell = quadrant(cell, i);
+            }
+        }
+
+        // Moves the single body of a leaf down into one of four new children
+        private void split(int cell) {
+            int first = size;
+            double quarter = half[cell] / 2;
+            newCell(centerX[cell] - quarter, centerY[cell] - quarter, quarter);
+            newCell(centerX[cell] + quarter, centerY[cell] - quarter, quarter);
+            newCell(centerX[cell] - quarter, centerY[cell] + quarter, quarter);
+            newCell(centerX[cell] + quarter, centerY[cell] + quarter, quarter);
+            firstChild[cell] = first;
+            int moved = body[cell];
+            body[cell] = -1;
+            int child = quadrant(cell, moved);
+            body[child] = moved;
+            add(child, moved);
+        }
+
+        private int quadrant(int cell, int i) {
+            int index = (x[i] >= centerX[cell] ? 1 : 0) + (y[i] >= centerY[cell] ? 2 : 0);
+            return firstChild[cell] + index;
+        }
+
+        private void add(int cell, int i) {
+            count[cell]++;
+            sumX[cell] += x[i];
+            sumY[cell] += y[i];
+        }
+
+        private void newCell(double cx, double cy, double h) {
+            if (size == count.length) {
+                int capacity = size * 2;
+                centerX = Arrays.copyOf(centerX, capacity);
+                centerY = Arrays.copyOf(centerY, capacity);
+                half = Arrays.copyOf(half, capacity);
+                sumX = Arrays.copyOf(sumX, capacity);
+                sumY = Arrays.copyOf(sumY, capacity);
+                count = Arrays.copyOf(count, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                body = Arrays.copyOf(body, capacity);
+            }
+            centerX[size] = cx;
+            centerY[size] = cy;
+            half[size] = h;
+            firstChild[size] = -1;
+            body[size] = -1;
+            size++;
+        }
+
+        // Adds the repulsion felt by body i, k^2 / distance from every other body, to its displacement
+        void repulse(int i, double k2, int[] stack, double[] dx, double[] dy) {
+            int depth = 0;
+            stack[depth++] = 0;
+            while (depth > 0) {
+                int cell = stack[--depth];
+                int bodies = count[cell];
+                double massX = sumX[cell];
+                double massY = sumY[cell];
+                if (firstChild[cell] == -1 && body[cell] == i) {
+                    // leave the body itself out of its own leaf
+                    bodies--;
+                    massX -= x[i];
+                    massY -= y[i];
+                }
+                if (bodies == 0) {
+                    continue;
+                }
+                double ex = x[i] - massX / bodies;
+                double ey = y[i] - massY / bodies;
+                double distance2 = ex * ex + ey * ey;
+                double width = 2 * half[cell];
+                if (firstChild[cell] != -1 && width * width >= THETA * THETA * distance2) {
+                    for (int q = 0; q < 4; q++) {
+                        stack[depth++] = firstChild[cell] + q;
+                    }
+                    continue;
+                }
+                if (distance2 > 1e-9) {
+                    double force = k2 * bodies / distance2;
+                    dx[i] += ex * force;
+                    dy[i] += ey * force;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package ru.stupidstick.graph.lod;
+
+import ru.stupidstick.fx.graph.VisEdge;
+import ru.stupidstick.fx.graph.VisGraph;
+import ru.stupidstick.fx.graph.VisNode;
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.algorithm.Components;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Level-of-detail view of a graph too large to draw whole. The vertices are gathered into a tree of
+// aggregates: every strongly connected component of a directed graph becomes one, and clusters of connected
+// items are then formed bottom-up until no level holds more than a quarter of the node budget. The view
+// opens the tree breadth-first up to half the budget; expanding an aggregate shows its children in its
+// place, and the view never grows past maxNodes. Edges between visible items are merged and counted, and only the maxEdges heaviest are drawn.
+// Works on a frozen copy of the graph: later changes need a new instance.
+public class LevelOfDetail<N, D, W extends Comparable<W>> {
+
+    private final CsrGraph<N, D, W> csr;
+
+    private final int maxNodes;
+
+    private final int maxEdges;
+
+    // Most items on the top level and most children of one aggregate
+    private final int fanOut;
+
+    private final int vertexCount;
+
+    // Aggregate ids continue after the vertex indices, so one id space covers both
+    private final List<Aggregate> aggregates;
+
+    private final int[] vertexParent;
+
+    private final int[] top;
+
+    // The only state that changes after construction
+    private final BitSet expanded;
+
+    // Scratch space for partition: position of each vertex's item in the current level, -1 elsewhere
+    private int[] slot;
+
+    public LevelOfDetail(Graph<N, D, W> graph, int maxNodes, int maxEdges) {
+        if (maxNodes < 8) {
+            throw new IllegalArgumentException("Node budget must be at least 8");
+        }
+        this.csr = graph.freeze();
+        this.maxNodes = maxNodes;
+        this.maxEdges = maxEdges;
+        this.fanOut = maxNodes / 4;
+        this.vertexCount = csr.vertexCount();
+        this.aggregates = new ArrayList<>();
+        this.expanded = new BitSet();
+        this.vertexParent = new int[vertexCount];
+        Arrays.fill(vertexParent, -1);
+        this.slot = new int[vertexCount];
+        Arrays.fill(slot, -1);
+
+        int[] items;
+        if (csr.isDirected()) {
+            items = collapseComponents();
+        } else {
+            items = new int[vertexCount];
+            Arrays.setAll(items, i -> i);
+        }
+        this.top = reduce(items);
+        this.slot = null;
+        expandBreadthFirst(maxNodes / 2);
+    }
+
+    private LevelOfDetail(LevelOfDetail<N, D, W> other) {
+        this.csr = other.csr;
+        this.maxNodes = other.maxNodes;
+        this.maxEdges = other.maxEdges;
+        this.fanOut = other.fanOut;
+        this.vertexCount = other.vertexCount;
+        this.aggregates = other.aggregates;
+        this.vertexParent = other.vertexParent;
+        this.top = other.top;
+        this.expanded = (BitSet) other.expanded.clone();
+    }
+
+    // A copy of the current view that later toggles do not affect, so toVisGraph, which walks every edge,
+    // can run on another thread. The aggregate tree is shared; only the expansion state is copied.
+    public LevelOfDetail<N, D, W> snapshot() {
+        return new LevelOfDetail<>(this);
+    }
+
+    // Expands an aggregate or, for anything else shown, collapses the aggregate it belongs to.
+    // Returns false when nothing changed: the id is not shown, or expanding would exceed the node budget.
+    public boolean toggle(long id) {
+        if (id < 0 || id >= vertexCount + aggregates.size() || !isVisible((int) id)) {
+            return false;
+        }
+        int item = (int) id;
+        if (item >= vertexCount && !expanded.get(item - vertexCount)) {
+            return expand(item);
+        }
+        int parent = parentOf(item);
+        if (parent == -1) {
+            return false;
+        }
+        collapse(parent);
+        return true;
+    }
+
+    public VisGraph toVisGraph() {
+        int[] owner = new int[vertexCount];
+        List<Integer> visible = new ArrayList<>();
+        for (int item : top) {
+            show(item, owner, visible);
+        }
+
+        Map<Integer, VisNode> nodes = new LinkedHashMap<>();
+        for (int item : visible) {
+            nodes.put(item, new VisNode(item, label(item)));
+        }
+
+        Map<Long, Link> links = new LinkedHashMap<>();
+        for (int u = 0; u < vertexCount; u++) {
+            for (int p = csr.firstEdge(u); p < csr.endEdge(u); p++) {
+                int v = csr.target(p);
+                int a = owner[u];
+                int b = owner[v];
+                // an undirected edge sits in both rows; count it from its lower endpoint only
+                if (a == b || !csr.isDirected() && u > v) {
+                    continue;
+                }
+                long key = csr.isDirected() ? (long) a << 32 | b : (long) Math.min(a, b) << 32 | Math.max(a, b);
+                Link link = links.get(key);
+                if (link == null) {
+                    link = new Link(a, b, csr.edge(p));
+                    links.put(key, link);
+                }
+                link.count++;
+            }
+        }
+        List<Link> drawn = new ArrayList<>(links.values());
+        if (drawn.size() > maxEdges) {
+            drawn.sort((l1, l2) -> Integer.compare(l2.count, l1.count));
+            drawn = drawn.subList(0, maxEdges);
+        }
+
+        String arrows = csr.isDirected() ? "to" : "";
+        VisEdge[] visEdges = new VisEdge[drawn.size()];
+        for (int i = 0; i < visEdges.length; i++) {
+            Link link = drawn.get(i);
+            String label = link.count == 1 ? link.edge.toString() : link.count + " edges";
+            visEdges[i] = new VisEdge(i, nodes.get(link.from), nodes.get(link.to), arrows, label);
+        }
+
+        VisGraph visGraph = new VisGraph();
+        visGraph.addNodes(nodes.values().toArray(VisNode[]::new));
+        visGraph.addEdges(visEdges);
+        return visGraph;
+    }
+
+    private void expandBreadthFirst(int limit) {
+        int visible = top.length;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int item : top) {
+            queue.add(item);
+        }
+        while (!queue.isEmpty()) {
+            int item = queue.poll();
+            if (item < vertexCount) {
+                continue;
+            }
+            int[] children = aggregates.get(item - vertexCount).children;
+            if (visible - 1 + children.length > limit) {
+                break;
+            }
+            expanded.set(item - vertexCount);
+            visible += children.length - 1;
+            for (int child : children) {
+                queue.add(child);
+            }
+        }
+    }
+
+    private boolean expand(int item) {
+        Aggregate aggregate = aggregates.get(item - vertexCount);
+        if (visibleCount() - 1 + aggregate.children.length > maxNodes) {
+            return false;
+        }
+        expanded.set(item - vertexCount);
+        return true;
+    }
+
+    // Collapsing also folds everything expanded inside, so a later expand starts from the children again
+    private void collapse(int item) {
+        expanded.clear(item - vertexCount);
+        for (int child : aggregates.get(item - vertexCount).children) {
+            if (child >= vertexCount && expanded.get(child - vertexCount)) {
+                collapse(child);
+            }
+        }
+    }
+
+    private boolean isVisible(int item) {
+        for (int parent = parentOf(item); parent != -1; parent = parentOf(parent)) {
+            if (!expanded.get(parent - vertexCount)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int visibleCount() {
+        int count = 0;
+        for (int item : top) {
+            count += visibleCount(item);
+        }
+        return count;
+    }
+
+    private int visibleCount(int item) {
+        if (item < vertexCount || !expanded.get(item - vertexCount)) {
+            return 1;
+        }
+        int count = 0;
+        for (int child : aggregates.get(item - vertexCount).children) {
+            count += visibleCount(child);
+        }
+        return count;
+    }
+
+    // Adds the item, or its children when expanded, and records which shown item each vertex falls under
+    private void show(int item, int[] owner, List<Integer> visible) {
+        if (item >= vertexCount && expanded.get(item - vertexCount)) {
+            for (int child : aggregates.get(item - vertexCount).children) {
+                show(child, owner, visible);
+            }
+            return;
+        }
+        visible.add(item);
+        for (int vertex : leavesOf(new int[]{item}, new int[2])) {
+            owner[vertex] = item;
+        }
+    }
+
+    private String label(int item) {
+        if (item < vertexCount) {
+            return csr.vertex(item).toString();
+        }
+        Aggregate aggregate = aggregates.get(item - vertexCount);
+        return (aggregate.component ? "Strongly connected: " : "Cluster: ") + aggregate.size + " vertices";
+    }
+
+    // Every strongly connected component of more than one vertex becomes an aggregate; the rest stay vertices
+    private int[] collapseComponents() {
+        int[] component = Components.tarjan(csr);
+        int componentCount = Components.count(component);
+        int[] start = new int[componentCount + 1];
+        for (int label : component) {
+            start[label + 1]++;
+        }
+        for (int i = 0; i < componentCount; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] members = new int[vertexCount];
+        int[] fill = Arrays.copyOf(start, componentCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            members[fill[component[vertex]]++] = vertex;
+        }
+
+        int[] items = new int[componentCount];
+        for (int c = 0; c < componentCount; c++) {
+            int[] inside = Arrays.copyOfRange(members, start[c], start[c + 1]);
+            items[c] = inside.length == 1 ? inside[0] : newAggregate(reduce(inside), true);
+        }
+        return items;
+    }
+
+    // Groups items into clusters level by level until at most fanOut remain
+    private int[] reduce(int[] items) {
+        while (items.length > fanOut) {
+            items = partition(items);
+        }
+        return items;
+    }
+
+    // Grows clusters of up to fanOut items breadth-first along the edges between them, then packs the clusters
+    // under half that size together, so every level is at most about 2 / fanOut the size of the one below
+    private int[] partition(int[] items) {
+        int count = items.length;
+        int[] leafStart = new int[count + 1];
+        int[] leaves = leavesOf(items, leafStart);
+        for (int i = 0; i < count; i++) {
+            for (int k = leafStart[i]; k < leafStart[i + 1]; k++) {
+                slot[leaves[k]] = i;
+            }
+        }
+        long[] pairs = new long[16];
+        int pairCount = 0;
+        for (int i = 0; i < count; i++) {
+            for (int k = leafStart[i]; k < leafStart[i + 1]; k++) {
+                int vertex = leaves[k];
+                for (int p = csr.firstEdge(vertex); p < csr.endEdge(vertex); p++) {
+                    int other = slot[csr.target(p)];
+                    if (other == -1 || other == i) {
+                        continue;
+                    }
+                    if (pairCount == pairs.length) {
+                        pairs = Arrays.copyOf(pairs, pairCount * 2);
+                    }
+                    pairs[pairCount++] = (long) Math.min(i, other) << 32 | Math.max(i, other);
+                }
+            }
+        }
+        for (int vertex : leaves) {
+            slot[vertex] = -1;
+        }
+
+        // symmetric adjacency between positions, duplicates dropped
+        Arrays.sort(pairs, 0, pairCount);
+        int[] degree = new int[count + 1];
+        int distinct = 0;
+        for (int k = 0; k < pairCount; k++) {
+            if (k == 0 || pairs[k] != pairs[k - 1]) {
+                pairs[distinct++] = pairs[k];
+                degree[(int) (pairs[k] >>> 32) + 1]++;
+                degree[(int) pairs[k] + 1]++;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            degree[i + 1] += degree[i];
+        }
+        int[] neighbours = new int[degree[count]];
+        int[] fill = Arrays.copyOf(degree, count);
+        for (int k = 0; k < distinct; k++) {
+            int a = (int) (pairs[k] >>> 32);
+            int b = (int) pairs[k];
+            neighbours[fill[a]++] = b;
+            neighbours[fill[b]++] = a;
+        }
+
+        int[] cluster = new int[count];
+        Arrays.fill(cluster, -1);
+        int[] clusterSize = new int[count];
+        int[] queue = new int[count];
+        int clusterCount = 0;
+        for (int seed = 0; seed < count; seed++) {
+            if (cluster[seed] != -1) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = seed;
+            cluster[seed] = clusterCount;
+            while (head < tail && tail < fanOut) {
+                int current = queue[head++];
+                for (int p = degree[current]; p < degree[current + 1] && tail < fanOut; p++) {
+                    int next = neighbours[p];
+                    if (cluster[next] == -1) {
+                        cluster[next] = clusterCount;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            clusterSize[clusterCount++] = tail;
+        }
+
+        // next-fit packing of the clusters of at most half of fanOut: two consecutive bins always hold more
+        // than fanOut items, so the level shrinks even when its items share no edges
+        int[] merged = new int[clusterCount];
+        int binCount = 0;
+        int openBin = -1;
+        int openSize = 0;
+        for (int c = 0; c < clusterCount; c++) {
+            if (clusterSize[c] * 2 > fanOut) {
+                merged[c] = binCount++;
+            } else {
+                if (openBin == -1 || openSize + clusterSize[c] > fanOut) {
+                    openBin = binCount++;
+                    openSize = 0;
+                }
+                merged[c] = openBin;
+                openSize += clusterSize[c];
+            }
+        }
+
+        int[] start = new int[binCount + 1];
+        for (int i = 0; i < count; i++) {
+            start[merged[cluster[i]] + 1]++;
+        }
+        for (int b = 0; b < binCount; b++) {
+            start[b + 1] += start[b];
+        }
+        int[] members = new int[count];
+        int[] binFill = Arrays.copyOf(start, binCount);
+        for (int i = 0; i < count; i++) {
+            members[binFill[merged[cluster[i]]]++] = items[i];
+        }
+        int[] next = new int[binCount];
+        for (int b = 0; b < binCount; b++) {
+            int[] inside = Arrays.copyOfRange(members, start[b], start[b + 1]);
+            next[b] = inside.length == 1 ? inside[0] : newAggregate(inside, false);
+        }
+        return next;
+    }
+
+    private int newAggregate(int[] children, boolean component) {
+        int id = vertexCount + aggregates.size();
+        int size = 0;
+        for (int child : children) {
+            size += child < vertexCount ? 1 : aggregates.get(child - vertexCount).size;
+            setParent(child, id);
+        }
+        aggregates.add(new Aggregate(children, size, component));
+        return id;
+    }
+
+    private void setParent(int item, int parent) {
+        if (item < vertexCount) {
+            vertexParent[item] = parent;
+        } else {
+            aggregates.get(item - vertexCount).parent = parent;
+        }
+    }
+
+    private int parentOf(int item) {
+        return item < vertexCount ? vertexParent[item] : aggregates.get(item - vertexCount).parent;
+    }
+
+    // The vertices below each item, item by item; those of items[i] are [start[i], start[i + 1])
+    private int[] leavesOf(int[] items, int[] start) {
+        int total = 0;
+        for (int item : items) {
+            total += item < vertexCount ? 1 : aggregates.get(item - vertexCount).size;
+        }
+        int[] leaves = new int[total];
+        int[] stack = new int[16];
+        int size = 0;
+        for (int i = 0; i < items.length; i++) {
+            start[i] = size;
+            int depth = 0;
+            stack[depth++] = items[i];
+            while (depth > 0) {
+                int current = stack[--depth];
+                if (current < vertexCount) {
+                    leaves[size++] = current;
+                    continue;
+                }
+                for (int child : aggregates.get(current - vertexCount).children) {
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = child;
+                }
+            }
+        }
+        start[items.length] = size;
+        return leaves;
+    }
+
+    private static final class Aggregate {
+
+        private final int[] children;
+
+        // Number of vertices below
+        private final int size;
+
+        // A strongly connected component rather than a cluster
+        private final boolean component;
+
+        private int parent = -1;
+
+        Aggregate(int[] children, int size, boolean component) {
+            this.children = children;
+            this.size = size;
+            this.component = component;
+        }
+    }
+
+    private final class Link {
+
+        private final int from;
+
+        private final int to;
+
+        // The first edge found, for the label of a link that stands for a single edge
+        private final Edge<N, D, W> edge;
+
+        private int count;
+
+        Link(int from, int to, Edge<N, D, W> edge) {
+            this.from = from;
+            this.to = to;
+            this.edge = edge;
+        }
+    }
+}
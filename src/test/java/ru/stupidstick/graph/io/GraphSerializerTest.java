@@ -0,0 +1,96 @@
+package ru.stupidstick.graph.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.stupidstick.graph.Edge;
+import ru.stupidstick.graph.Graph;
+import ru.stupidstick.graph.ListGraph;
+import ru.stupidstick.graph.Vertex;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GraphSerializerTest {
+
+    @TempDir
+    Path directory;
+
+    private final GraphSerializer<String, String, Double> serializer =
+            new GraphSerializer<>(Codecs.STRING, Codecs.nullable(Codecs.STRING), Codecs.DOUBLE);
+
+    // A triangle a - b - c with a tail to d, a parallel a - b edge and a self loop on d
+    private static ListGraph<String, String, Double> sample(boolean directed) {
+        ListGraph<String, String, Double> graph = new ListGraph<>(directed);
+        Vertex<String, String> a = graph.insertVertex("a", "1");
+        Vertex<String, String> b = graph.insertVertex("b", "2");
+        Vertex<String, String> c = graph.insertVertex("c", "3");
+        Vertex<String, String> d = graph.insertVertex("d", "4");
+        graph.insertEdges(List.of(
+                new Edge<>(a, b, 1.0),
+                new Edge<>(b, c, 2.0),
+                new Edge<>(c, a, 3.0),
+                new Edge<>(c, d, 4.0),
+                new Edge<>(a, b, 5.0),
+                new Edge<>(d, d, 6.0)));
+        return graph;
+    }
+
+    private Graph<String, String, Double> roundTrip(Graph<String, String, Double> graph) throws IOException {
+        Path file = directory.resolve("graph.bin");
+        serializer.write(graph, file);
+        return serializer.read(file, (isDirected, vertexCount, edgeCount) -> new ListGraph<>(isDirected, vertexCount));
+    }
+
+    private MappedGraph mapped(Graph<String, String, Double> graph) throws IOException {
+        Path file = directory.resolve("mapped.bin");
+        MappedGraphWriter.write(graph, file);
+        return MappedGraph.open(file);
+    }
+
+    @Test
+    void keepsEveryEdgeOfAnUndirectedGraph() throws IOException {
+        ListGraph<String, String, Double> graph = sample(false);
+
+        assertEquals(rows(graph), rows(roundTrip(graph)));
+    }
+
+    @Test
+    void keepsEveryEdgeOfAnUndirectedMappedGraph() throws IOException {
+        ListGraph<String, String, Double> graph = sample(false);
+        Graph<String, String, Double> read = roundTrip(mapped(graph));
+
+        assertEquals(12, rows(read).size());
+        assertEquals(rows(graph), rows(read));
+    }
+
+    @Test
+    void keepsEveryEdgeOfADirectedMappedGraph() throws IOException {
+        ListGraph<String, String, Double> graph = sample(true);
+
+        assertEquals(rows(graph), rows(roundTrip(mapped(graph))));
+    }
+
+    // The row of every vertex as "vertex>neighbour:weight" entries, so an undirected edge shows up from both ends
+    private static List<String> rows(Graph<String, String, Double> graph) {
+        List<String> rows = new ArrayList<>();
+        var vertices = graph.vertexIterator();
+        while (vertices.hasSet()) {
+            var vertex = vertices.get();
+            var edges = graph.edgeIterator(vertex);
+            while (edges.hasSet()) {
+                var edge = edges.get();
+                var other = edge.getFrom().getName().equals(vertex.getName()) ? edge.getTo() : edge.getFrom();
+                rows.add(vertex.getName() + ">" + other.getName() + ":" + edge.getWeight());
+                edges.next();
+            }
+            vertices.next();
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+}
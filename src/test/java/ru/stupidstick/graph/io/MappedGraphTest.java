@@ -0,0 +1,87 @@
+package ru.stupidstick.graph.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.stupidstick.graph.CsrGraph;
+import ru.stupidstick.graph.ListGraph;
+import ru.stupidstick.graph.Vertex;
+import ru.stupidstick.graph.algorithm.Components;
+import ru.stupidstick.graph.algorithm.MinimumSpanningTree;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MappedGraphTest {
+
+    @TempDir
+    Path directory;
+
+    // The path a - b - c
+    private MappedGraph path(boolean directed) throws IOException {
+        ListGraph<String, String, Double> graph = new ListGraph<>(directed);
+        Vertex<String, String> a = graph.insertVertex("a", "1");
+        Vertex<String, String> b = graph.insertVertex("b", "2");
+        Vertex<String, String> c = graph.insertVertex("c", "3");
+        graph.insertEdge(a, b);
+        graph.insertEdge(b, c);
+        Path file = directory.resolve(directed ? "directed.bin" : "undirected.bin");
+        MappedGraphWriter.write(graph, file);
+        return MappedGraph.open(file);
+    }
+
+    @Test
+    void freezesUndirectedFileWithBothEndpointsInEachRow() throws IOException {
+        CsrGraph<String, String, Double> csr = path(false).freeze();
+
+        assertEquals(3, csr.vertexCount());
+        assertEquals(4, csr.edgeCount());
+        assertArrayEquals(new int[]{1}, row(csr, 0));
+        assertArrayEquals(new int[]{0, 2}, row(csr, 1));
+        assertArrayEquals(new int[]{1}, row(csr, 2));
+        assertEquals("b", csr.vertex(1).getName());
+        assertEquals(1, csr.indexOf(csr.vertex(1)));
+    }
+
+    @Test
+    void freezeSharesOneEdgeBetweenTheRowsOfAnUndirectedEdge() throws IOException {
+        CsrGraph<String, String, Double> csr = path(false).freeze();
+
+        assertSame(csr.edge(csr.firstEdge(0)), csr.edge(csr.firstEdge(1)));
+        assertEquals(2, csr.toVisGraph().getEdges().size());
+    }
+
+    @Test
+    void algorithmsSeeTheFrozenUndirectedFile() throws IOException {
+        MappedGraph graph = path(false);
+
+        assertEquals(2, MinimumSpanningTree.kruskal(graph).size());
+        assertEquals(2, MinimumSpanningTree.prim(graph).size());
+        assertEquals(1, Components.count(Components.connected(graph)));
+        assertEquals(2, graph.toVisGraph().getEdges().size());
+    }
+
+    @Test
+    void freezesDirectedFileAlongOutgoingEdges() throws IOException {
+        CsrGraph<String, String, Double> csr = path(true).freeze();
+
+        assertEquals(2, csr.edgeCount());
+        assertArrayEquals(new int[]{1}, row(csr, 0));
+        assertArrayEquals(new int[]{2}, row(csr, 1));
+        assertArrayEquals(new int[0], row(csr, 2));
+        assertEquals(3, Components.count(Components.tarjan(csr)));
+    }
+
+    private static int[] row(CsrGraph<String, String, Double> csr, int vertex) {
+        int[] targets = new int[csr.degree(vertex)];
+        for (int k = 0; k < targets.length; k++) {
+            targets[k] = csr.target(csr.firstEdge(vertex) + k);
+        }
+        Arrays.sort(targets);
+        return targets;
+    }
+}